@@ -0,0 +1,58 @@
+package com.cmt3319.game;
+
+import java.io.File;
+
+import com.cmt3319.headless.HeadlessGame;
+import com.cmt3319.headless.MemoryFileIO;
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+import com.cmt3319.interfaces.Screen;
+import com.cmt3319.software.SoftwareGraphics;
+import com.cmt3319.software.SoftwarePixmap;
+
+/**
+ * Loads the game's assets for the benchmarks the same way the game does, by running {@link LoadingScreen} once
+ * in a {@link HeadlessGame} that draws with a {@link SoftwareGraphics}. The assets are only loaded once per JVM.
+ *
+ * The assets folder is read from the system property cmt3319.assets, which the benchmark build sets, and is
+ * otherwise the assets folder of the working directory.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+final class BenchmarkAssets {
+
+	static final long SEED = 3319;
+
+	static final float TICK = 1 / 60f;
+
+	static final int SCREENWIDTH = HeadlessGame.FRAMEBUFFER_WIDTH, SCREENHEIGHT = HeadlessGame.FRAMEBUFFER_HEIGHT;
+
+	private static HeadlessGame game;
+
+	private BenchmarkAssets() {
+	}
+
+	static synchronized HeadlessGame load() {
+		if(game == null) {
+			MemoryFileIO fileIO = new MemoryFileIO(new File(System.getProperty("cmt3319.assets", "assets")));
+			SoftwarePixmap framebuffer = new SoftwarePixmap(SCREENWIDTH, SCREENHEIGHT, PixmapFormat.RGB565);
+
+			game = new HeadlessGame(fileIO, new SoftwareGraphics(fileIO, framebuffer)) {
+				@Override
+				public Screen getStartScreen() {
+					return new LoadingScreen(this);
+				}
+			};
+
+			game.start();
+			game.getCurrentScreen().update(0);
+
+			Settings.getInstance().setSoundEnabled(false);
+			Settings.getInstance().setGravityReversed(false);
+		}
+
+		return game;
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.cmt3319.game;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.interfaces.Pool.PoolObjectFactory;
+
+/**
+ * Measures admitting a chunk to the world, the work Map.addPart used to do when a new part of the level
+ * scrolled into view: {@link Chunk#load(ChunkData, int, ArrayList)} clears the tiles of the chunk it reuses,
+ * takes new tiles and enemies from the pools and merges the walls into rectangles.
+ *
+ * The tile maps are taken from a {@link ChunkGenerator} before measuring, so generating them is not measured,
+ * and loaded in turn. The enemies a load creates go straight back to their pool, as they would when they
+ * scroll off.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkBenchmark {
+
+	private static final int TILEMAPS = 16, MAXPOOLEDTILES = 1024, MAXPOOLEDENEMIES = 64;
+
+	private ChunkData[] tileMaps;
+
+	private Chunk chunk;
+
+	private Pool<MovingObject> enemyPool;
+
+	private ArrayList<MovingObject> enemies;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkAssets.load();
+
+		ChunkGenerator generator = new ChunkGenerator(BenchmarkAssets.SEED, Map.MAPWIDTH, Map.MAPHEIGHT);
+		generator.start();
+
+		tileMaps = new ChunkData[TILEMAPS];
+		for(int i = 0; i < TILEMAPS; i++) {
+			tileMaps[i] = generator.next();
+		}
+
+		generator.stop();
+
+		Pool<Tile> tilePool = new Pool<Tile>(new PoolObjectFactory<Tile>() {
+			@Override
+			public Tile createObject() {
+				return new Tile(Assets.getInstance().getWall(), 0, 0, Tile.TileID.WALL);
+			}
+		}, MAXPOOLEDTILES);
+
+		enemyPool = new Pool<MovingObject>(new PoolObjectFactory<MovingObject>() {
+			@Override
+			public MovingObject createObject() {
+				return new MovingObject(Assets.getInstance().getEnemy(), Assets.getInstance().getEnemyReversed(), 0, 0);
+			}
+		}, MAXPOOLEDENEMIES);
+
+		chunk = new Chunk(Map.MAPWIDTH, Map.MAPHEIGHT, tilePool, enemyPool);
+		enemies = new ArrayList<MovingObject>();
+		next = 0;
+	}
+
+	@Benchmark
+	public Chunk load() {
+		chunk.load(tileMaps[next % TILEMAPS], next * Map.MAPWIDTH, enemies);
+		next++;
+
+		for(int i = 0; i < enemies.size(); i++) {
+			enemyPool.free(enemies.get(i));
+		}
+		enemies.clear();
+
+		return chunk;
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.cmt3319.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per tick work {@link Map} does for the simulation, for each world in {@link WorldState}.
+ *
+ * <pre>
+ * playerFloorCollision		{@link MovingObject#update(float)} and {@link Map#checkObjectCollisionWithFloor(MovingObject)}
+ * 				for the player
+ * enemyFloorCollision		the same for every enemy, the loop at the end of a game tick
+ * updateWorldLocation		{@link Map#updateWorldLocation(float, Score)}, scrolling one tick
+ * </pre>
+ *
+ * updateWorldLocation scrolls on for the whole run, so chunks are admitted far more often than in the game: every
+ * 280 or so calls rather than every few seconds. It includes loading the chunks and, if the {@link ChunkGenerator}
+ * thread falls behind, waiting for it; {@link ChunkBenchmark} measures loading a chunk on its own. Enemies that
+ * scroll off are replaced just ahead of the world so the count stays the same.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+	@Benchmark
+	public void playerFloorCollision(WorldState world) {
+		world.player.update(BenchmarkAssets.TICK);
+		world.map.checkObjectCollisionWithFloor(world.player);
+	}
+
+	@Benchmark
+	public void enemyFloorCollision(WorldState world) {
+		for(int i = 0; i < world.map.getEnemies().size(); i++) {
+			MovingObject enemy = world.map.getEnemies().get(i);
+
+			enemy.update(BenchmarkAssets.TICK);
+			world.map.checkObjectCollisionWithFloor(enemy);
+		}
+	}
+
+	@Benchmark
+	public void updateWorldLocation(WorldState world) {
+		world.map.updateWorldLocation(BenchmarkAssets.TICK, world.score);
+		world.replaceEnemies();
+	}
+
+}
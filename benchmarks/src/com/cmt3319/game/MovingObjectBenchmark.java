@@ -0,0 +1,67 @@
+package com.cmt3319.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MovingObject#update(float)} for the player and a number of enemies, without the world, so
+ * the cost of the physics step is seen apart from collision. Without a floor the objects keep falling at their
+ * maximum speed, which takes the same path through update as an object in the air in the game.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovingObjectBenchmark {
+
+	@Param({"0", "10", "100"})
+	public int enemies;
+
+	private Player player;
+
+	private MovingObject[] objects;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkAssets.load();
+
+		player = new Player(BenchmarkAssets.SCREENWIDTH * 0.3f, BenchmarkAssets.SCREENHEIGHT * 0.6f);
+		objects = new MovingObject[enemies];
+
+		for(int i = 0; i < enemies; i++) {
+			objects[i] = new MovingObject(Assets.getInstance().getEnemy(), Assets.getInstance().getEnemyReversed(),
+					i * Assets.getInstance().getEnemy().getWidth(), 0);
+			objects[i].setJumping(true);
+		}
+	}
+
+	@Benchmark
+	public void update() {
+		player.update(BenchmarkAssets.TICK);
+		player.setPositionToDesired();
+
+		for(int i = 0; i < objects.length; i++) {
+			objects[i].update(BenchmarkAssets.TICK);
+			objects[i].setPositionToDesired();
+		}
+	}
+
+}
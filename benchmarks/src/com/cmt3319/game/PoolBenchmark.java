@@ -0,0 +1,74 @@
+package com.cmt3319.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.interfaces.Pool.PoolObjectFactory;
+
+/**
+ * Measures {@link Pool#newObject()} and {@link Pool#free(Object)}, taking a number of tiles from a pool and giving
+ * them back in one operation: 1 is a single tile, 64 and 600 about the hazards and walls of a chunk.
+ * The pool holds enough tiles for every burst, so once warmed up nothing should be allocated.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PoolBenchmark {
+
+	private static final int MAXPOOLEDTILES = 1024;
+
+	@Param({"1", "64", "600"})
+	public int burst;
+
+	private Pool<Tile> pool;
+
+	private Tile[] taken;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkAssets.load();
+
+		pool = new Pool<Tile>(new PoolObjectFactory<Tile>() {
+			@Override
+			public Tile createObject() {
+				return new Tile(Assets.getInstance().getWall(), 0, 0, Tile.TileID.WALL);
+			}
+		}, MAXPOOLEDTILES);
+
+		taken = new Tile[burst];
+	}
+
+	@Benchmark
+	public void newObjectAndFree(Blackhole blackhole) {
+		for(int i = 0; i < burst; i++) {
+			taken[i] = pool.newObject();
+		}
+
+		for(int i = burst - 1; i >= 0; i--) {
+			blackhole.consume(taken[i]);
+			pool.free(taken[i]);
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.cmt3319.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cmt3319.interfaces.Graphics;
+
+/**
+ * Measures {@link Score#present(Graphics)} drawing scores of different lengths into the software framebuffer
+ * set up by {@link BenchmarkAssets}.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreBenchmark {
+
+	@Param({"0", "1234", "123456789"})
+	public int value;
+
+	private Score score;
+
+	private Graphics graphics;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		graphics = BenchmarkAssets.load().getGraphics();
+
+		score = new Score();
+		score.increaseScore(value);
+	}
+
+	@Benchmark
+	public void present() {
+		score.present(graphics);
+	}
+
+}
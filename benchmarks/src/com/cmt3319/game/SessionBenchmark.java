@@ -0,0 +1,557 @@
+package com.cmt3319.game;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.cmt3319.headless.HeadlessGame;
+import com.cmt3319.replay.InputLog;
+import com.cmt3319.replay.ReplayInput;
+
+/**
+ * Replays a corpus of recorded sessions through {@link GamePlayScreen} and times every frame, to find the
+ * spikes the microbenchmarks average away, such as a frame that loads a chunk. Each frame is one tick, as in
+ * {@link com.cmt3319.headless.HeadlessLoop#runTicks(int)}: update(TICK) and then present() into the
+ * {@link com.cmt3319.software.SoftwareGraphics} framebuffer of {@link BenchmarkAssets}.
+ *
+ * <pre>
+ * java com.cmt3319.game.SessionBenchmark -sessions &lt;folder&gt; [-warmup n] [-iterations n]
+ *                                        [-out result.json] [-baseline previous.json]
+ * </pre>
+ *
+ * The corpus is every .replay file in the sessions folder, see {@link SessionRecorder}. It is replayed warmup
+ * times untimed and then iterations times timed. The results are:
+ *
+ * <pre>
+ * update.p50, p95, p99, max, mean    microseconds spent in update
+ * present.p50, p95, p99, max, mean   microseconds spent in present
+ * sprites.submittedPerFrame          mean sprites the map drew in a frame, see {@link Map#getSubmittedSprites()}
+ * sprites.culledPerFrame             mean sprites the map skipped as off screen, see {@link Map#getCulledSprites()}
+ * alloc.bytesPerFrame                mean bytes allocated by a frame, from the thread's allocation counter
+ * alloc.p50BytesPerFrame             bytes allocated by the median frame
+ * alloc.maxBytesPerFrame             most bytes allocated by one frame
+ * gc.count, gc.timeMs                collections and time spent collecting during the timed iterations
+ * </pre>
+ *
+ * along with the same times for each session and the slowest frames, with the session and tick they came from.
+ * They are printed, and written as JSON with -out. With -baseline the metrics are compared with those of a JSON
+ * file written by an earlier run. Allocation is reported as -1 on a JVM without a thread allocation counter.
+ *
+ * The benchmark itself allocates nothing while replaying: one {@link ReplayInput} plays back every session and
+ * the samples are sized for the whole run up front, so the allocation figures are those of the screen. The mean
+ * includes the chunk layers each new screen allocates the first time it draws a chunk, which the median leaves out.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public final class SessionBenchmark {
+
+	private static final int WORSTFRAMES = 10;
+
+	private static final Pattern METRIC = Pattern.compile("\"([a-zA-Z.0-9]+)\"\\s*:\\s*(-?[0-9.]+)");
+
+	private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	private static final boolean allocationSupported = threads instanceof com.sun.management.ThreadMXBean
+			&& ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported();
+
+	 /**
+	  * The times of the frames of the timed iterations, in the order they were played, and the session and
+	  * tick each came from.
+	  */
+	private static final class Samples {
+		int count;
+		int[] sessions, ticks, submitted, culled;
+		long[] updates, presents, allocations;
+
+		Samples(int capacity) {
+			capacity = Math.max(1, capacity);
+			sessions = new int[capacity];
+			ticks = new int[capacity];
+			submitted = new int[capacity];
+			culled = new int[capacity];
+			updates = new long[capacity];
+			presents = new long[capacity];
+			allocations = new long[capacity];
+		}
+
+		void add(int session, int tick, long update, long present, long allocation, int submitted, int culled) {
+			if(count == sessions.length) {
+				int length = count * 2;
+				sessions = Arrays.copyOf(sessions, length);
+				ticks = Arrays.copyOf(ticks, length);
+				this.submitted = Arrays.copyOf(this.submitted, length);
+				this.culled = Arrays.copyOf(this.culled, length);
+				updates = Arrays.copyOf(updates, length);
+				presents = Arrays.copyOf(presents, length);
+				allocations = Arrays.copyOf(allocations, length);
+			}
+
+			sessions[count] = session;
+			ticks[count] = tick;
+			updates[count] = update;
+			presents[count] = present;
+			allocations[count] = allocation;
+			this.submitted[count] = submitted;
+			this.culled[count] = culled;
+			count++;
+		}
+	}
+
+	private SessionBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		File sessionFolder = null, out = null, baseline = null;
+		int warmup = 2, iterations = 5;
+
+		for(int i = 0; i < args.length; i++) {
+			if(i + 1 == args.length) {
+				usage();
+			}
+
+			if(args[i].equals("-sessions")) {
+				sessionFolder = new File(args[++i]);
+			} else if(args[i].equals("-warmup")) {
+				warmup = Integer.parseInt(args[++i]);
+			} else if(args[i].equals("-iterations")) {
+				iterations = Integer.parseInt(args[++i]);
+			} else if(args[i].equals("-out")) {
+				out = new File(args[++i]);
+			} else if(args[i].equals("-baseline")) {
+				baseline = new File(args[++i]);
+			} else {
+				usage();
+			}
+		}
+
+		if(sessionFolder == null || iterations < 1) {
+			usage();
+		}
+
+		String[] names = sessionFolder.list(new FilenameFilter() {
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.endsWith(SessionRecorder.EXTENSION);
+			}
+		});
+
+		if(names == null || names.length == 0) {
+			throw new IOException("No " + SessionRecorder.EXTENSION + " files in " + sessionFolder);
+		}
+
+		Arrays.sort(names);
+		InputLog[] logs = new InputLog[names.length];
+
+		for(int i = 0; i < names.length; i++) {
+			InputStream in = new FileInputStream(new File(sessionFolder, names[i]));
+
+			try {
+				logs[i] = InputLog.read(in);
+			} catch (IOException e) {
+				throw new IOException(names[i] + ": " + e.getMessage());
+			} finally {
+				in.close();
+			}
+		}
+
+		// A session never plays more frames than its log has ticks.
+		int frames = 0;
+		for(int i = 0; i < logs.length; i++) {
+			frames += logs[i].getTickCount();
+		}
+
+		HeadlessGame game = BenchmarkAssets.load();
+		ReplayInput input = new ReplayInput(logs[0]);
+		Samples samples = new Samples(frames * iterations);
+		long allocationOverhead = allocationOverhead();
+
+		for(int i = 0; i < warmup; i++) {
+			for(int j = 0; j < logs.length; j++) {
+				replay(game, input, logs[j], j, null, 0);
+			}
+		}
+
+		long gcCount = -gcCount(), gcTime = -gcTime();
+
+		for(int i = 0; i < iterations; i++) {
+			for(int j = 0; j < logs.length; j++) {
+				replay(game, input, logs[j], j, samples, allocationOverhead);
+			}
+		}
+
+		gcCount += gcCount();
+		gcTime += gcTime();
+
+		game.setInput(game.getHeadlessInput());
+
+		LinkedHashMap<String, Double> metrics = new LinkedHashMap<String, Double>();
+		addTimes(metrics, "update.", samples.updates, samples.count);
+		addTimes(metrics, "present.", samples.presents, samples.count);
+		metrics.put("sprites.submittedPerFrame", mean(samples.submitted, samples.count));
+		metrics.put("sprites.culledPerFrame", mean(samples.culled, samples.count));
+		addAllocation(metrics, samples);
+		metrics.put("gc.count", (double) gcCount);
+		metrics.put("gc.timeMs", (double) gcTime);
+
+		print(names, iterations, samples, metrics);
+
+		if(out != null) {
+			write(out, names, logs.length, iterations, samples, metrics);
+			System.out.println("Wrote " + out);
+		}
+
+		if(baseline != null) {
+			compare(baseline, metrics);
+		}
+	}
+
+	private static void usage() {
+		System.err.println("Usage: SessionBenchmark -sessions <folder> [-warmup n] [-iterations n] [-out result.json]"
+				+ " [-baseline previous.json]");
+		System.exit(2);
+	}
+
+	 /**
+	  * Plays a session from its first tick until its log runs out or it leaves the screen, timing each frame
+	  * into samples if it is not null.
+	  */
+	private static void replay(HeadlessGame game, ReplayInput input, InputLog log, int session, Samples samples,
+			long allocationOverhead) {
+		input.restart(log);
+		game.setInput(input);
+
+		GamePlayScreen screen = new GamePlayScreen(game, log.getWorldSeed(), log.getCloudSeed());
+		game.setScreen(screen);
+
+		while(!input.isFinished() && game.getCurrentScreen() == screen) {
+			int tick = input.getTick();
+
+			long allocated = allocatedBytes();
+			long start = System.nanoTime();
+			screen.update(BenchmarkAssets.TICK);
+			long updated = System.nanoTime();
+
+			if(game.getCurrentScreen() != screen) {
+				break;
+			}
+
+			screen.present(BenchmarkAssets.TICK, 0);
+			long presented = System.nanoTime();
+			allocated = allocatedBytes() - allocated - allocationOverhead;
+
+			if(samples != null) {
+				Map map = screen.getMap();
+				samples.add(session, tick, updated - start, presented - updated, allocated, map.getSubmittedSprites(),
+						map.getCulledSprites());
+			}
+		}
+	}
+
+	private static long allocatedBytes() {
+		if(!allocationSupported) {
+			return 0;
+		}
+
+		return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	 /**
+	  * The bytes the allocation counter reports between two reads with nothing in between, taken off each frame.
+	  */
+	private static long allocationOverhead() {
+		long overhead = Long.MAX_VALUE;
+
+		for(int i = 0; i < 1000; i++) {
+			long allocated = allocatedBytes();
+			overhead = Math.min(overhead, allocatedBytes() - allocated);
+		}
+
+		return overhead;
+	}
+
+	private static long gcCount() {
+		long count = 0;
+
+		for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+
+		return count;
+	}
+
+	private static long gcTime() {
+		long time = 0;
+
+		for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+
+		return time;
+	}
+
+	 /**
+	  * Adds the percentiles, max and mean of the first count times, in microseconds.
+	  */
+	private static void addTimes(LinkedHashMap<String, Double> metrics, String prefix, long[] times, int count) {
+		long[] sorted = Arrays.copyOf(times, count);
+		Arrays.sort(sorted);
+
+		long total = 0;
+		for(int i = 0; i < count; i++) {
+			total += sorted[i];
+		}
+
+		metrics.put(prefix + "p50", micros(percentile(sorted, 0.50)));
+		metrics.put(prefix + "p95", micros(percentile(sorted, 0.95)));
+		metrics.put(prefix + "p99", micros(percentile(sorted, 0.99)));
+		metrics.put(prefix + "max", micros(count > 0 ? sorted[count - 1] : 0));
+		metrics.put(prefix + "mean", micros(count > 0 ? (double) total / count : 0));
+	}
+
+	private static void addAllocation(LinkedHashMap<String, Double> metrics, Samples samples) {
+		if(!allocationSupported) {
+			metrics.put("alloc.bytesPerFrame", -1.0);
+			metrics.put("alloc.p50BytesPerFrame", -1.0);
+			metrics.put("alloc.maxBytesPerFrame", -1.0);
+			return;
+		}
+
+		long total = 0, max = 0;
+		for(int i = 0; i < samples.count; i++) {
+			total += Math.max(0, samples.allocations[i]);
+			max = Math.max(max, samples.allocations[i]);
+		}
+
+		long[] sorted = Arrays.copyOf(samples.allocations, samples.count);
+		Arrays.sort(sorted);
+
+		metrics.put("alloc.bytesPerFrame", samples.count > 0 ? (double) total / samples.count : 0);
+		metrics.put("alloc.p50BytesPerFrame", (double) Math.max(0, percentile(sorted, 0.50)));
+		metrics.put("alloc.maxBytesPerFrame", (double) max);
+	}
+
+	private static double mean(int[] values, int count) {
+		long total = 0;
+		for(int i = 0; i < count; i++) {
+			total += values[i];
+		}
+
+		return count > 0 ? (double) total / count : 0;
+	}
+
+	 /**
+	  * Nearest rank percentile of sorted times.
+	  */
+	private static long percentile(long[] sorted, double p) {
+		if(sorted.length == 0) {
+			return 0;
+		}
+
+		int rank = (int) Math.ceil(p * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static double micros(double nanos) {
+		return nanos / 1000.0;
+	}
+
+	 /**
+	  * The times of the frames of one session.
+	  */
+	private static long[][] sessionTimes(Samples samples, int session) {
+		int count = 0;
+		for(int i = 0; i < samples.count; i++) {
+			if(samples.sessions[i] == session) {
+				count++;
+			}
+		}
+
+		long[][] times = new long[2][count];
+		count = 0;
+		for(int i = 0; i < samples.count; i++) {
+			if(samples.sessions[i] == session) {
+				times[0][count] = samples.updates[i];
+				times[1][count] = samples.presents[i];
+				count++;
+			}
+		}
+
+		return times;
+	}
+
+	 /**
+	  * Indexes of the slowest frames, slowest first.
+	  */
+	private static int[] worstFrames(Samples samples) {
+		ArrayList<Integer> worst = new ArrayList<Integer>();
+
+		for(int i = 0; i < samples.count; i++) {
+			long time = samples.updates[i] + samples.presents[i];
+			int j = worst.size();
+
+			while(j > 0 && time > samples.updates[worst.get(j - 1)] + samples.presents[worst.get(j - 1)]) {
+				j--;
+			}
+
+			if(j < WORSTFRAMES) {
+				worst.add(j, i);
+
+				if(worst.size() > WORSTFRAMES) {
+					worst.remove(WORSTFRAMES);
+				}
+			}
+		}
+
+		int[] indexes = new int[worst.size()];
+		for(int i = 0; i < indexes.length; i++) {
+			indexes[i] = worst.get(i);
+		}
+
+		return indexes;
+	}
+
+	private static void print(String[] names, int iterations, Samples samples, LinkedHashMap<String, Double> metrics) {
+		System.out.println(names.length + " sessions, " + iterations + " iterations, " + samples.count + " frames");
+
+		for(Entry<String, Double> metric : metrics.entrySet()) {
+			System.out.println(String.format(Locale.US, "  %-24s %12.3f", metric.getKey(), metric.getValue()));
+		}
+
+		System.out.println("Slowest frames (us):");
+
+		int[] worst = worstFrames(samples);
+		for(int i = 0; i < worst.length; i++) {
+			int frame = worst[i];
+			System.out.println(String.format(Locale.US, "  %-24s tick %6d  update %10.3f  present %10.3f",
+					names[samples.sessions[frame]], samples.ticks[frame], micros(samples.updates[frame]),
+					micros(samples.presents[frame])));
+		}
+	}
+
+	private static void write(File file, String[] names, int sessions, int iterations, Samples samples,
+			LinkedHashMap<String, Double> metrics) throws IOException {
+		PrintWriter out = new PrintWriter(new FileWriter(file));
+
+		out.println("{");
+		out.println("  \"benchmark\": \"SessionBenchmark\",");
+		out.println("  \"sessions\": " + sessions + ",");
+		out.println("  \"iterations\": " + iterations + ",");
+		out.println("  \"frames\": " + samples.count + ",");
+
+		out.println("  \"metrics\": {");
+		int m = 0;
+		for(Entry<String, Double> metric : metrics.entrySet()) {
+			out.println("    \"" + metric.getKey() + "\": " + number(metric.getValue())
+					+ (++m < metrics.size() ? "," : ""));
+		}
+		out.println("  },");
+
+		out.println("  \"perSession\": [");
+		for(int i = 0; i < sessions; i++) {
+			long[][] times = sessionTimes(samples, i);
+			LinkedHashMap<String, Double> sessionMetrics = new LinkedHashMap<String, Double>();
+			addTimes(sessionMetrics, "update.", times[0], times[0].length);
+			addTimes(sessionMetrics, "present.", times[1], times[1].length);
+
+			out.print("    { \"session\": \"" + escape(names[i]) + "\", \"frames\": " + times[0].length);
+			for(Entry<String, Double> metric : sessionMetrics.entrySet()) {
+				out.print(", \"" + metric.getKey() + "\": " + number(metric.getValue()));
+			}
+			out.println(" }" + (i + 1 < sessions ? "," : ""));
+		}
+		out.println("  ],");
+
+		out.println("  \"slowestFrames\": [");
+		int[] worst = worstFrames(samples);
+		for(int i = 0; i < worst.length; i++) {
+			int frame = worst[i];
+			out.println("    { \"session\": \"" + escape(names[samples.sessions[frame]]) + "\", \"tick\": "
+					+ samples.ticks[frame] + ", \"update\": " + number(micros(samples.updates[frame]))
+					+ ", \"present\": " + number(micros(samples.presents[frame])) + ", \"alloc\": "
+					+ samples.allocations[frame] + " }" + (i + 1 < worst.length ? "," : ""));
+		}
+		out.println("  ]");
+		out.println("}");
+
+		out.close();
+
+		if(out.checkError()) {
+			throw new IOException("Couldn't write " + file);
+		}
+	}
+
+	 /**
+	  * Prints each metric next to the same metric in the metrics object of an earlier result.
+	  */
+	private static void compare(File baseline, LinkedHashMap<String, Double> metrics) throws IOException {
+		StringBuilder json = new StringBuilder();
+		BufferedReader in = new BufferedReader(new FileReader(baseline));
+
+		try {
+			String line;
+			while((line = in.readLine()) != null) {
+				json.append(line).append('\n');
+			}
+		} finally {
+			in.close();
+		}
+
+		int start = json.indexOf("\"metrics\"");
+		int end = start < 0 ? -1 : json.indexOf("}", start);
+
+		if(end < 0) {
+			throw new IOException(baseline + " has no metrics");
+		}
+
+		LinkedHashMap<String, Double> previous = new LinkedHashMap<String, Double>();
+		Matcher matcher = METRIC.matcher(json.substring(start, end));
+		while(matcher.find()) {
+			previous.put(matcher.group(1), Double.parseDouble(matcher.group(2)));
+		}
+
+		System.out.println("Compared with " + baseline + ":");
+		System.out.println(String.format(Locale.US, "  %-24s %12s %12s %9s", "", "baseline", "current", "change"));
+
+		for(Entry<String, Double> metric : metrics.entrySet()) {
+			Double before = previous.get(metric.getKey());
+			double now = metric.getValue();
+
+			if(before == null) {
+				System.out.println(String.format(Locale.US, "  %-24s %12s %12.3f", metric.getKey(), "-", now));
+			} else if(before == 0) {
+				System.out.println(String.format(Locale.US, "  %-24s %12.3f %12.3f %9s", metric.getKey(), before,
+						now, now == 0 ? "" : "new"));
+			} else {
+				System.out.println(String.format(Locale.US, "  %-24s %12.3f %12.3f %+8.1f%%", metric.getKey(), before,
+						now, (now - before) * 100 / Math.abs(before)));
+			}
+		}
+	}
+
+	private static String number(double value) {
+		return String.format(Locale.US, "%.3f", value);
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.cmt3319.game;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import com.cmt3319.headless.HeadlessGame;
+import com.cmt3319.headless.HeadlessInput;
+import com.cmt3319.replay.InputLog;
+import com.cmt3319.replay.RecordingInput;
+
+/**
+ * Records the corpus of sessions replayed by {@link SessionBenchmark}. Each session is a {@link GamePlayScreen}
+ * started with seeds from one Random and played by a simple bot until the game is over, or until MAXTICKS
+ * ticks have been played. The bot holds the right of the screen to jump for a while, lets go for a while, and
+ * now and then holds the left of the screen to stop running. It does not look where it is going, so most of
+ * its games are short; ATTEMPTS sessions are played and only the longest are kept, as a session has to run for
+ * a while to load chunks and fill the screen with enemies:
+ *
+ * <pre>
+ * java com.cmt3319.game.SessionRecorder &lt;output folder&gt; [sessions] [seed]
+ * </pre>
+ *
+ * writes session-00.replay, session-01.replay, ... to the output folder. The same seed always records the same
+ * sessions. Sessions recorded on a device with a {@link RecordingInput} can be put in the corpus as well.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+final class SessionRecorder {
+
+	static final String EXTENSION = ".replay";
+
+	private static final int SESSIONS = 8;
+
+	private static final int ATTEMPTS = 100;
+
+	private static final int MAXTICKS = 60 * 120;
+
+	private SessionRecorder() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1 || args.length > 3) {
+			System.err.println("Usage: SessionRecorder <output folder> [sessions] [seed]");
+			System.exit(2);
+		}
+
+		File output = new File(args[0]);
+		int sessions = args.length > 1 ? Integer.parseInt(args[1]) : SESSIONS;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : BenchmarkAssets.SEED;
+
+		if(!output.isDirectory() && !output.mkdirs()) {
+			throw new IOException("Couldn't create " + output);
+		}
+
+		HeadlessGame game = BenchmarkAssets.load();
+		RecordingInput recorder = new RecordingInput(game.getHeadlessInput());
+		Random rand = new Random(seed);
+		ArrayList<InputLog> logs = new ArrayList<InputLog>();
+
+		game.setInput(recorder);
+
+		try {
+			for(int i = 0; i < Math.max(sessions, ATTEMPTS); i++) {
+				logs.add(record(game, recorder, rand));
+			}
+		} finally {
+			game.setInput(game.getHeadlessInput());
+		}
+
+		// Longest first, and in the order they were played when as long.
+		Collections.sort(logs, new Comparator<InputLog>() {
+			@Override
+			public int compare(InputLog a, InputLog b) {
+				return b.getTickCount() - a.getTickCount();
+			}
+		});
+
+		for(int i = 0; i < sessions; i++) {
+			InputLog log = logs.get(i);
+			File file = new File(output, String.format("session-%02d%s", i, EXTENSION));
+			OutputStream out = new FileOutputStream(file);
+
+			try {
+				log.write(out);
+			} finally {
+				out.close();
+			}
+
+			System.out.println("Wrote " + file.getName() + ", " + log.getTickCount() + " ticks and "
+					+ log.getEventCount() + " events");
+		}
+	}
+
+	 /**
+	  * Plays one session with the bot and returns its log.
+	  */
+	private static InputLog record(HeadlessGame game, RecordingInput recorder, Random rand) {
+		GamePlayScreen screen = new GamePlayScreen(game, rand.nextLong(), rand.nextLong());
+		recorder.begin(screen.getWorldSeed(), screen.getCloudSeed());
+		game.setScreen(screen);
+
+		InputLog log = recorder.getLog();
+		HeadlessInput input = game.getHeadlessInput();
+
+		int jumpX = BenchmarkAssets.SCREENWIDTH * 3 / 4, stopX = BenchmarkAssets.SCREENWIDTH / 4;
+		int y = BenchmarkAssets.SCREENHEIGHT / 2;
+
+		// Tap once to leave the ready state.
+		input.touchDown(0, jumpX, y);
+		input.touchUp(0, jumpX, y);
+
+		int nextTouch = 1 + rand.nextInt(30), touchX = jumpX;
+		boolean down = false;
+
+		for(int tick = 0; tick < MAXTICKS && screen.state != GamePlayScreen.GameState.GameOver; tick++) {
+			if(tick == nextTouch) {
+				if(down) {
+					input.touchUp(0, touchX, y);
+					nextTouch += 10 + rand.nextInt(50);
+				} else {
+					touchX = rand.nextInt(10) == 0 ? stopX : jumpX;
+					input.touchDown(0, touchX, y);
+					nextTouch += 5 + rand.nextInt(25);
+				}
+
+				down = !down;
+			}
+
+			screen.update(BenchmarkAssets.TICK);
+		}
+
+		return log;
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.cmt3319.game;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A {@link Map} with a given number of loaded chunks and extra enemies, plus a player and a score, built from
+ * the same seed every time. 3 chunks and 0 or 10 enemies is about what the game has loaded; 10 chunks and 100
+ * enemies is a stress test.
+ *
+ * The screen width given to the map is the width of all of its chunks, so the ring is filled to the number of
+ * chunks asked for. The extra enemies are spread evenly over the loaded chunks and dropped from the top row,
+ * and the world is then run for a second so they have landed, or fallen into a pit, before measuring starts.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+@State(Scope.Thread)
+public class WorldState {
+
+	private static final int SETTLETICKS = 60;
+
+	@Param({"1", "3", "10"})
+	public int chunks;
+
+	@Param({"0", "10", "100"})
+	public int enemies;
+
+	Map map;
+
+	Player player;
+
+	Score score;
+
+	float worldWidth;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkAssets.load();
+
+		worldWidth = chunks * Map.MAPWIDTH * Assets.getInstance().getWall().getWidth();
+
+		map = new Map(worldWidth, BenchmarkAssets.SEED, chunks);
+		player = new Player(BenchmarkAssets.SCREENWIDTH * 0.3f, BenchmarkAssets.SCREENHEIGHT * 0.6f);
+		score = new Score();
+
+		for(int i = 0; i < enemies; i++) {
+			map.spawnEnemy(worldWidth * i / enemies, 0);
+		}
+
+		for(int i = 0; i < SETTLETICKS; i++) {
+			updateObjects();
+		}
+	}
+
+	 /**
+	  * Steps the player and every enemy by one tick and checks them against the floor, as a game tick does.
+	  */
+	void updateObjects() {
+		player.update(BenchmarkAssets.TICK);
+		map.checkObjectCollisionWithFloor(player);
+
+		for(int i = 0; i < map.getEnemies().size(); i++) {
+			MovingObject enemy = map.getEnemies().get(i);
+
+			enemy.update(BenchmarkAssets.TICK);
+			map.checkObjectCollisionWithFloor(enemy);
+		}
+	}
+
+	 /**
+	  * Adds enemies just past the loaded chunks until the map has at least the number asked for, replacing
+	  * those it removed as they scrolled off.
+	  */
+	void replaceEnemies() {
+		while(map.getEnemies().size() < enemies) {
+			map.spawnEnemy(map.getScrollX() + worldWidth, 0);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		map.dispose();
+	}
+
+}
@@ -41,6 +41,9 @@ public class Assets {
 	private Pixmap helpScreenOne;
 	private Pixmap helpScreenTwo;
 	private Pixmap helpScreenTwoHeading;
+	private LevelPack levelPack;
+	
+	private TextureAtlas atlas;
 	private Pixmap title;
 	private Pixmap menuBackground;
 	private Pixmap play;
@@ -372,6 +375,22 @@ public class Assets {
 	public void setHelpScreenTwoHeading(Pixmap helpScreenTwoHeading) {
 		this.helpScreenTwoHeading = helpScreenTwoHeading;
 	}
+
+	public LevelPack getLevelPack() {
+		return levelPack;
+	}
+
+	public void setLevelPack(LevelPack levelPack) {
+		this.levelPack = levelPack;
+	}
+
+	public TextureAtlas getAtlas() {
+		return atlas;
+	}
+
+	public void setAtlas(TextureAtlas atlas) {
+		this.atlas = atlas;
+	}
 	
 	
 	
@@ -0,0 +1,185 @@
+package com.cmt3319.game;
+
+import com.cmt3319.math.RectF;
+
+/**
+ * Sort and sweep broadphase for enemies. Enemies are kept in an array sorted by the left edge of their
+ * bounding box, so the enemies that could overlap a box are found by sweeping along the array rather than
+ * testing every enemy against every other. Only pairs whose boxes overlap on the x plane are returned, and
+ * {@link Map} then does the exact test on these.
+ *
+ * The array is kept between ticks. Enemies are added by {@link Map} when a {@link Chunk} is loaded and removed
+ * when they leave the screen, and {@link Broadphase#update()} re-sorts it with an insertion sort. Enemies only
+ * move up and down and new ones are added to the right of the world, so the array is nearly always sorted already
+ * and the sort is one pass over it.
+ *
+ * lefts[i] is always the left edge of objects[i] as last read, by {@link Broadphase#add(MovingObject)} or
+ * {@link Broadphase#update()}. Both arrays are grown and shifted together, so the searches can rely on it.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class Broadphase {
+
+	private MovingObject[] objects;
+
+	private float[] lefts;
+
+	private int count;
+
+	private float maxWidth;
+
+	private MovingObject[] pairs;
+
+	private int pairCount;
+
+	public Broadphase(int capacity) {
+		objects = new MovingObject[capacity];
+		lefts = new float[capacity];
+		pairs = new MovingObject[capacity * 2];
+	}
+
+	public void add(MovingObject object) {
+		if(count == objects.length) {
+			MovingObject[] newObjects = new MovingObject[count * 2];
+			System.arraycopy(objects, 0, newObjects, 0, count);
+			objects = newObjects;
+
+			float[] newLefts = new float[count * 2];
+			System.arraycopy(lefts, 0, newLefts, 0, count);
+			lefts = newLefts;
+		}
+
+		lefts[count] = object.getBoundingBox().left;
+		objects[count++] = object;
+	}
+
+	 /**
+	  * Removes an object, keeping the rest of the array in order.
+	  */
+	public void remove(MovingObject object) {
+		for(int i = 0; i < count; i++) {
+			if(objects[i] == object) {
+				System.arraycopy(objects, i + 1, objects, i, count - i - 1);
+				System.arraycopy(lefts, i + 1, lefts, i, count - i - 1);
+				objects[--count] = null;
+				return;
+			}
+		}
+	}
+
+	public void clear() {
+		for(int i = 0; i < count; i++) {
+			objects[i] = null;
+		}
+
+		count = 0;
+	}
+
+	 /**
+	  * Reads the left edge of every object and insertion sorts the array on it. Called once a tick after
+	  * the enemies have moved, before {@link Broadphase#findPairs()} or {@link Broadphase#findFirst(float)}.
+	  */
+	public void update() {
+		maxWidth = 0;
+
+		for(int i = 0; i < count; i++) {
+			RectF box = objects[i].getBoundingBox();
+			lefts[i] = box.left;
+			maxWidth = Math.max(maxWidth, box.width());
+		}
+
+		for(int i = 1; i < count; i++) {
+			MovingObject object = objects[i];
+			float left = lefts[i];
+			int j = i - 1;
+
+			while(j >= 0 && lefts[j] > left) {
+				objects[j + 1] = objects[j];
+				lefts[j + 1] = lefts[j];
+				j--;
+			}
+
+			objects[j + 1] = object;
+			lefts[j + 1] = left;
+		}
+	}
+
+	 /**
+	  * Sweeps along the sorted array and stores every pair of objects that overlap on the x plane. For each
+	  * object only the objects after it that start before it ends are looked at.
+	  *
+	  * @return returns the number of pairs found. Pair i is {@link Broadphase#getPairFirst(int)} and
+	  * {@link Broadphase#getPairSecond(int)}.
+	  */
+	public int findPairs() {
+		pairCount = 0;
+
+		for(int i = 0; i < count; i++) {
+			float right = objects[i].getBoundingBox().right;
+
+			for(int j = i + 1; j < count && lefts[j] < right; j++) {
+				addPair(objects[i], objects[j]);
+			}
+		}
+
+		return pairCount;
+	}
+
+	private void addPair(MovingObject first, MovingObject second) {
+		if(pairCount * 2 == pairs.length) {
+			MovingObject[] newPairs = new MovingObject[pairs.length * 2];
+			System.arraycopy(pairs, 0, newPairs, 0, pairs.length);
+			pairs = newPairs;
+		}
+
+		pairs[pairCount * 2] = first;
+		pairs[pairCount * 2 + 1] = second;
+		pairCount++;
+	}
+
+	public MovingObject getPairFirst(int pair) {
+		return pairs[pair * 2];
+	}
+
+	public MovingObject getPairSecond(int pair) {
+		return pairs[pair * 2 + 1];
+	}
+
+	 /**
+	  * Finds the first object that could overlap a box starting at left on the x plane, using a binary search.
+	  * No object is wider than {@link Broadphase#maxWidth}, so any object starting further left than that
+	  * cannot reach the box. Callers iterate from the returned index with {@link Broadphase#get(int)} until
+	  * an object starts to the right of the box.
+	  */
+	public int findFirst(float left) {
+		float from = left - maxWidth;
+		int low = 0, high = count;
+
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+
+			if(lefts[middle] < from) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	public MovingObject get(int index) {
+		return objects[index];
+	}
+
+	public float getLeft(int index) {
+		return lefts[index];
+	}
+
+	public int size() {
+		return count;
+	}
+
+}
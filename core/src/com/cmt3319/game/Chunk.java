@@ -0,0 +1,420 @@
+package com.cmt3319.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.cmt3319.game.Tile.TileID;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.math.RectF;
+
+/**
+ * Holds the tiles built from one compiled tile map returned by {@link TileSet#getTileSet()}. {@link Map} keeps
+ * a fixed number of chunks in a ring and streams the world by retiring the oldest chunk once it is
+ * off screen and loading a new tile map into it.
+ *
+ * A chunk covers {@link Chunk#columns} columns starting at {@link Chunk#startColumn}. Tiles are kept in a list for
+ * drawing and in a {@link TileGrid} so collisions can be looked up by cell. Tiles and enemies are taken from
+ * pools shared by every chunk, and tiles are returned to the pool when they are removed or the chunk is reloaded,
+ * so streaming the world does not create new objects once the pools have filled.
+ *
+ * Walls never move and are never removed, so when a chunk is loaded its walls are also merged into as few
+ * rectangles as possible by {@link Chunk#mergeWalls(int, int)}. {@link Map} tests collisions against these
+ * rectangles rather than each wall tile, while the tiles are still used for drawing. A flat floor becomes
+ * one rectangle instead of forty tiles.
+ *
+ * Walls and hazards are also drawn once into an offscreen {@link Pixmap}, {@link Chunk#staticLayer}, the first
+ * time the chunk is drawn after it is loaded, so drawing them is one blit per chunk rather than one per tile.
+ * Collectibles and reverse gravity tiles can be picked up, so they are kept in {@link Chunk#overlayTiles} and
+ * drawn over the layer tile by tile. The layer is kept and redrawn when the chunk is reloaded.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class Chunk {
+
+	private final int columns, rows;
+
+	private int startColumn;
+
+	private ArrayList<Tile> tiles;
+
+	private ArrayList<Tile> overlayTiles;
+
+	private TileGrid tileGrid;
+
+	private final boolean[] wallCells;
+
+	private final short[] wallRectCells;
+
+	private RectF[] wallRects;
+
+	private int[] wallRectMarks;
+
+	private int wallRectCount;
+
+	private int tileWidth;
+
+	private Pixmap staticLayer;
+
+	private Graphics staticGraphics;
+
+	private boolean staticLayerDirty;
+
+	private Pool<Tile> tilePool;
+
+	private Pool<MovingObject> enemyPool;
+
+	public Chunk(int columns, int rows, Pool<Tile> tilePool, Pool<MovingObject> enemyPool) {
+		this.columns = columns;
+		this.rows = rows;
+
+		this.tilePool = tilePool;
+		this.enemyPool = enemyPool;
+
+		tiles = new ArrayList<Tile>();
+		overlayTiles = new ArrayList<Tile>();
+		tileGrid = new TileGrid(columns, rows);
+
+		wallCells = new boolean[columns * rows];
+		wallRectCells = new short[columns * rows];
+		wallRects = new RectF[8];
+		wallRectMarks = new int[8];
+		Arrays.fill(wallRectCells, (short) -1);
+	}
+
+	 /**
+	  * Loads a compiled tile map into the chunk, replacing any tiles left from the tile map it held before.
+	  * Iterates through the runs of each {@link TileID} in the {@link ChunkData} and adds a tile for each cell
+	  * in the run, merges the walls into rectangles, then creates the enemies. Empty cells are not stored in the
+	  * data, so they cost nothing here.
+	  *
+	  * Enemies are not owned by the chunk. They are created at their world position and added to enemies.
+	  *
+	  * @param data compiled tile map from {@link TileSet#getTileSet()}.
+	  * @param startColumn the world column of the left edge of the chunk.
+	  * @param enemies list that new enemies are added to.
+	  */
+	public void load(ChunkData data, int startColumn, ArrayList<MovingObject> enemies) {
+		Pixmap wall = Assets.getInstance().getWall();
+		Pixmap enemy = Assets.getInstance().getEnemy();
+		Pixmap enemyReversed = Assets.getInstance().getEnemyReversed();
+
+		clear();
+
+		this.startColumn = startColumn;
+		tileWidth = wall.getWidth();
+
+		addRuns(data, TileID.WALL, wall);
+		addRuns(data, TileID.HAZARD, Assets.getInstance().getHazard());
+		addRuns(data, TileID.COLLECTIBLE, Assets.getInstance().getCollectible());
+		addRuns(data, TileID.GRAVITY, Assets.getInstance().getReverseGravity());
+
+		mergeWalls(wall.getWidth(), wall.getHeight());
+		staticLayerDirty = true;
+
+		for(int i = 0; i < data.getEnemyCount(); i++) {
+			MovingObject enemyObject = enemyPool.newObject();
+			enemyObject.reset(enemy, enemyReversed, startColumn * wall.getWidth() + data.getEnemyColumn(i) * enemy.getWidth(),
+					data.getEnemyRow(i) * enemy.getHeight());
+			enemyObject.setJumping(true);
+			enemies.add(enemyObject);
+		}
+	}
+
+	private void addRuns(ChunkData data, TileID id, Pixmap image) {
+		for(int run = data.getFirstRun(id); run < data.getEndRun(id); run++) {
+			int column = startColumn + data.getRunColumn(run);
+			int row = data.getRunRow(run);
+
+			for(int i = 0; i < data.getRunLength(run); i++) {
+				addTile(image, column + i, row, id);
+			}
+		}
+	}
+
+	 /**
+	  * Merges the wall tiles of the chunk into rectangles, greedily:
+	  *
+	  * <pre>
+	  * for(each row, bottom to top) {
+	  * 	for(each wall cell not yet in a rectangle, left to right) {
+	  * 		extend right while the next cell is a wall not yet in a rectangle;
+	  * 		extend up while every cell of the next row over the rectangle is a wall not yet in a rectangle;
+	  * 		add the rectangle and mark its cells;
+	  * 	}
+	  * }
+	  * </pre>
+	  *
+	  * Rows are merged first and from the bottom, so the floor is always one rectangle per unbroken stretch and
+	  * blocks standing on it are separate rectangles with their own top. This is not always the fewest rectangles
+	  * possible but it is close for the floors, ceilings and blocks the tile maps are made of, and it runs once
+	  * per chunk in time proportional to the number of cells. Each cell remembers which rectangle covers it in
+	  * {@link Chunk#wallRectCells}, so {@link Map} can find the rectangles near a body by cell the same way it
+	  * finds tiles. The rectangles are reused when the chunk is reloaded.
+	  */
+	private void mergeWalls(int tileWidth, int tileHeight) {
+		Arrays.fill(wallCells, false);
+		Arrays.fill(wallRectCells, (short) -1);
+		wallRectCount = 0;
+
+		for(int i = 0; i < tiles.size(); i++) {
+			Tile tile = tiles.get(i);
+
+			if(tile.getID() == TileID.WALL) {
+				wallCells[tile.getRow() * columns + tile.getColumn() - startColumn] = true;
+			}
+		}
+
+		for(int row = rows - 1; row >= 0; row--) {
+			for(int column = 0; column < columns; column++) {
+				if(!isFreeWall(column, row)) {
+					continue;
+				}
+
+				int width = 1;
+
+				while(column + width < columns && isFreeWall(column + width, row)) {
+					width++;
+				}
+
+				int height = 1;
+
+				while(row - height >= 0 && isFreeWallRow(column, row - height, width)) {
+					height++;
+				}
+
+				int top = row - height + 1;
+
+				for(int y = top; y <= row; y++) {
+					for(int x = column; x < column + width; x++) {
+						wallRectCells[y * columns + x] = (short) wallRectCount;
+					}
+				}
+
+				addWallRect((startColumn + column) * tileWidth, top * tileHeight,
+						(startColumn + column + width) * tileWidth, (row + 1) * tileHeight);
+
+				column += width - 1;
+			}
+		}
+	}
+
+	private boolean isFreeWall(int column, int row) {
+		int index = row * columns + column;
+
+		return wallCells[index] && wallRectCells[index] < 0;
+	}
+
+	private boolean isFreeWallRow(int column, int row, int width) {
+		for(int x = column; x < column + width; x++) {
+			if(!isFreeWall(x, row)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void addWallRect(float left, float top, float right, float bottom) {
+		if(wallRectCount == wallRects.length) {
+			RectF[] newRects = new RectF[wallRects.length * 2];
+			int[] newMarks = new int[newRects.length];
+			System.arraycopy(wallRects, 0, newRects, 0, wallRects.length);
+			System.arraycopy(wallRectMarks, 0, newMarks, 0, wallRectMarks.length);
+			wallRects = newRects;
+			wallRectMarks = newMarks;
+		}
+
+		if(wallRects[wallRectCount] == null) {
+			wallRects[wallRectCount] = new RectF();
+		}
+
+		wallRectMarks[wallRectCount] = 0;
+		wallRects[wallRectCount++].set(left, top, right, bottom);
+	}
+
+	private void addTile(Pixmap image, int column, int row, TileID id) {
+		Tile tile = tilePool.newObject();
+		tile.reset(image, column, row, id);
+
+		tiles.add(tile);
+
+		if(!isStatic(id)) {
+			overlayTiles.add(tile);
+		}
+
+		tileGrid.set(tile.getColumn() - startColumn, tile.getRow(), tile);
+	}
+
+	 /**
+	  * Removes a tile from the chunk so it is no longer drawn or collided with. Used when
+	  * a collectible or reverse gravity tile is picked up.
+	  */
+	public void removeTile(Tile tile) {
+		tiles.remove(tile);
+		overlayTiles.remove(tile);
+		tileGrid.set(tile.getColumn() - startColumn, tile.getRow(), null);
+		tilePool.free(tile);
+	}
+
+	 /**
+	  * Removes every tile from the chunk and returns them to the pool. Only the cells that hold a tile are cleared.
+	  */
+	private void clear() {
+		for(int i = 0; i < tiles.size(); i++) {
+			Tile tile = tiles.get(i);
+			tileGrid.set(tile.getColumn() - startColumn, tile.getRow(), null);
+			tilePool.free(tile);
+		}
+
+		tiles.clear();
+		overlayTiles.clear();
+	}
+
+	 /**
+	  * @param column world column of the tile.
+	  * @return returns the tile in the cell, or null if the cell is empty or not in this chunk.
+	  */
+	public Tile getTile(int column, int row) {
+		return tileGrid.get(column - startColumn, row);
+	}
+
+	 /**
+	  * Finds the merged wall rectangle covering a cell, the first time the rectangle is found with a mark. The
+	  * rectangle is then marked, so the other cells it covers return null until a new mark is used. {@link Map}
+	  * takes a new mark for each query, so it collects each rectangle once without searching the ones it has
+	  * already collected.
+	  *
+	  * @param column world column of the cell.
+	  * @param mark non-zero number of the query.
+	  * @return returns the rectangle, in world coordinates, or null if the cell is not a wall, not in this chunk
+	  * or its rectangle already has the mark.
+	  */
+	public RectF markWallRect(int column, int row, int mark) {
+		int local = column - startColumn;
+
+		if(row < 0 || row >= rows || local < 0 || local >= columns) {
+			return null;
+		}
+
+		int rect = wallRectCells[row * columns + local];
+
+		if(rect < 0 || wallRectMarks[rect] == mark) {
+			return null;
+		}
+
+		wallRectMarks[rect] = mark;
+
+		return wallRects[rect];
+	}
+
+	 /**
+	  * Tiles that are never removed once loaded and so can be drawn into {@link Chunk#staticLayer}.
+	  */
+	private static boolean isStatic(TileID id) {
+		return id == TileID.WALL || id == TileID.HAZARD;
+	}
+
+	 /**
+	  * Draws the chunk, redrawing {@link Chunk#staticLayer} first if the chunk has been loaded since it was
+	  * last drawn. {@link Map} only calls this for chunks that are at least partly on screen, so only the
+	  * overlay tiles are culled here:
+	  *
+	  * <pre>
+	  * if(static layer is out of date) {
+	  * 	create the layer the first time, otherwise erase it;
+	  * 	draw each wall and hazard into the layer, relative to the left of the chunk;
+	  * }
+	  * draw the layer at the left of the chunk less the scroll;
+	  * draw each collectible and reverse gravity tile that is on screen;
+	  * </pre>
+	  *
+	  * The layer is created from the {@link Graphics} passed in, so chunks can be loaded without one.
+	  *
+	  * @return returns the number of sprites drawn, out of {@link Chunk#getSpriteCount()}.
+	  */
+	public int draw(Graphics g, float scrollX, float screenWidth) {
+		if(staticLayerDirty) {
+			drawStaticLayer(g);
+		}
+
+		g.drawPixmap(staticLayer, startColumn * tileWidth - scrollX, 0);
+
+		int drawn = 1;
+
+		for(int i = 0; i < overlayTiles.size(); i++) {
+			Tile tile = overlayTiles.get(i);
+
+			if(tile.isOnScreen(scrollX, screenWidth)) {
+				tile.Draw(g, scrollX);
+				drawn++;
+			}
+		}
+
+		return drawn;
+	}
+
+	 /**
+	  * @return returns the number of sprites the chunk draws when it is all on screen, the static layer and
+	  * one for each overlay tile.
+	  */
+	public int getSpriteCount() {
+		return 1 + overlayTiles.size();
+	}
+
+	private void drawStaticLayer(Graphics g) {
+		if(staticLayer == null) {
+			Pixmap wall = Assets.getInstance().getWall();
+
+			staticLayer = g.newPixmap(columns * wall.getWidth(), rows * wall.getHeight(), PixmapFormat.ARGB4444);
+			staticGraphics = g.newGraphics(staticLayer);
+		} else {
+			staticLayer.erase();
+		}
+
+		float left = startColumn * tileWidth;
+
+		for(int i = 0; i < tiles.size(); i++) {
+			Tile tile = tiles.get(i);
+
+			if(isStatic(tile.getID())) {
+				tile.Draw(staticGraphics, left);
+			}
+		}
+
+		staticLayerDirty = false;
+	}
+
+	 /**
+	  * Releases {@link Chunk#staticLayer}. Called when the {@link Map} holding the chunk is disposed.
+	  */
+	public void dispose() {
+		if(staticLayer != null) {
+			staticLayer.dispose();
+			staticLayer = null;
+			staticGraphics = null;
+		}
+
+		staticLayerDirty = true;
+	}
+
+	public int getStartColumn() {
+		return startColumn;
+	}
+
+	 /**
+	  * @return returns the first world column after the chunk i.e. where the next chunk starts.
+	  */
+	public int getEndColumn() {
+		return startColumn + columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+}
@@ -0,0 +1,186 @@
+package com.cmt3319.game;
+
+import java.util.ArrayList;
+
+import com.cmt3319.game.Tile.TileID;
+
+/**
+ * A tile map compiled into a sparse form that a {@link Chunk} can be loaded from. Most cells of a tile map
+ * are empty, so rather than one entry per cell only the occupied cells are kept: tiles as horizontal runs of
+ * cells with the same {@link TileID}, grouped by id, and enemies as a list of spawn cells.
+ *
+ * A run is stored as three shorts in {@link ChunkData#runs}: its row, the column it starts at and its length.
+ * The runs for each id follow one another, starting at {@link ChunkData#getFirstRun(TileID)}.
+ *
+ * Tile maps are compiled once with {@link ChunkData#compile(int[], int)}, so loading a chunk costs in proportion
+ * to the number of occupied cells rather than the size of the tile map.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class ChunkData {
+
+	private static final TileID[] TILEIDS = TileID.values();
+
+	private final int columns, rows;
+
+	private final short[] runs;
+
+	private final int[] firstRun;
+
+	private final short[] enemies;
+
+	 /**
+	  * @param runs row, column and length of each run, grouped by {@link TileID} in the order of {@link TileID#values()}.
+	  * @param firstRun index of the first run of each id, followed by the total number of runs.
+	  * @param enemies column and row of each enemy spawn.
+	  */
+	public ChunkData(int columns, int rows, short[] runs, int[] firstRun, short[] enemies) {
+		if(firstRun.length != TILEIDS.length + 1 || runs.length != firstRun[TILEIDS.length] * 3
+				|| enemies.length % 2 != 0) {
+			throw new IllegalArgumentException("Chunk data is not valid");
+		}
+
+		this.columns = columns;
+		this.rows = rows;
+		this.runs = runs;
+		this.firstRun = firstRun;
+		this.enemies = enemies;
+	}
+
+	 /**
+	  * Compiles a tile map in the format used by {@link TileSet} i.e. one entry per cell where
+	  * 0 = wall, 1 = hazard, 2 = collectible, 3 = empty, 4 = reverse gravity and 5 = enemy.
+	  * Cell i is at column = i % columns and row = Math.floor((tileArray.length - 1 - i) / columns), which
+	  * places the first item in the array in the bottom left position of the chunk, the second to the right of this, etc.
+	  */
+	public static ChunkData compile(int[] tileArray, int columns) {
+		int rows = tileArray.length / columns;
+
+		ArrayList<Short> runList = new ArrayList<Short>();
+		int[] firstRun = new int[TILEIDS.length + 1];
+
+		for(int id = 0; id < TILEIDS.length; id++) {
+			firstRun[id] = runList.size() / 3;
+
+			for(int i = 0; i < tileArray.length; i++) {
+				if(toTileID(tileArray[i]) != TILEIDS[id]) {
+					continue;
+				}
+
+				int column = i % columns;
+				int length = 1;
+
+				while(column + length < columns && toTileID(tileArray[i + length]) == TILEIDS[id]) {
+					length++;
+				}
+
+				runList.add((short) ((tileArray.length - 1 - i) / columns));
+				runList.add((short) column);
+				runList.add((short) length);
+
+				i += length - 1;
+			}
+		}
+
+		firstRun[TILEIDS.length] = runList.size() / 3;
+
+		ArrayList<Short> enemyList = new ArrayList<Short>();
+
+		for(int i = 0; i < tileArray.length; i++) {
+			if(tileArray[i] == 5) {
+				enemyList.add((short) (i % columns));
+				enemyList.add((short) ((tileArray.length - 1 - i) / columns));
+			}
+		}
+
+		return new ChunkData(columns, rows, toArray(runList), firstRun, toArray(enemyList));
+	}
+
+	 /**
+	  * Compiles every tile map in a table. See {@link ChunkData#compile(int[], int)}.
+	  */
+	public static ChunkData[] compile(int[][] tileArrays, int columns) {
+		ChunkData[] data = new ChunkData[tileArrays.length];
+
+		for(int i = 0; i < tileArrays.length; i++) {
+			data[i] = compile(tileArrays[i], columns);
+		}
+
+		return data;
+	}
+
+	private static TileID toTileID(int tile) {
+		switch (tile) {
+		case 0:
+			return TileID.WALL;
+
+		case 1:
+			return TileID.HAZARD;
+
+		case 2:
+			return TileID.COLLECTIBLE;
+
+		case 4:
+			return TileID.GRAVITY;
+
+		default:
+			return null;
+		}
+	}
+
+	private static short[] toArray(ArrayList<Short> list) {
+		short[] array = new short[list.size()];
+
+		for(int i = 0; i < array.length; i++) {
+			array[i] = list.get(i);
+		}
+
+		return array;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getFirstRun(TileID id) {
+		return firstRun[id.ordinal()];
+	}
+
+	 /**
+	  * @return returns the index after the last run of the id.
+	  */
+	public int getEndRun(TileID id) {
+		return firstRun[id.ordinal() + 1];
+	}
+
+	public int getRunRow(int run) {
+		return runs[run * 3];
+	}
+
+	public int getRunColumn(int run) {
+		return runs[run * 3 + 1];
+	}
+
+	public int getRunLength(int run) {
+		return runs[run * 3 + 2];
+	}
+
+	public int getEnemyCount() {
+		return enemies.length / 2;
+	}
+
+	public int getEnemyColumn(int enemy) {
+		return enemies[enemy * 2];
+	}
+
+	public int getEnemyRow(int enemy) {
+		return enemies[enemy * 2 + 1];
+	}
+
+}
@@ -0,0 +1,273 @@
+package com.cmt3319.game;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.cmt3319.interfaces.Pixmap;
+
+/**
+ * Builds the tile maps that {@link Map} streams into its {@link Chunk}s. Tile maps are built on a worker thread
+ * and kept in a small queue ahead of the screen, so when {@link Map} needs a new chunk it only takes the next
+ * one from the queue with {@link ChunkGenerator#next()}.
+ *
+ * The stream mixes the hand written tilesets in {@link TileSet} with procedural ones built by
+ * {@link ChunkGenerator#generate(int)}. Procedural tile maps get harder as the run goes on, see
+ * {@link ChunkGenerator#getDifficulty()}. Every choice is made with one {@link Random} on the worker thread, so the same
+ * seed always gives the same sequence of tile maps.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class ChunkGenerator implements Runnable {
+
+	private static final int EMPTY = 3, WALL = 0, HAZARD = 1, COLLECTIBLE = 2, GRAVITY = 4, ENEMY = 5;
+
+	private final int QUEUESIZE = 4, MAXDIFFICULTY = 3, CHUNKSPERDIFFICULTY = 3, SAFECOLUMNS = 4,
+			MINSPACING = 3;
+
+	// Chances out of ten of placing each feature at a column, indexed by difficulty - 1.
+	private final int[] PITCHANCE = {1, 2, 3}, HAZARDCHANCE = {2, 2, 3}, GRAVITYCHANCE = {0, 1, 1};
+
+	private final int[] MAXFEATUREWIDTH = {2, 3, 3}, ENEMIES = {0, 1, 3};
+
+	private final int columns, rows;
+
+	private final Random rand;
+
+	private final TileSet tileSet;
+
+	private final ArrayBlockingQueue<ChunkData> queue;
+
+	private int generated;
+
+	private Thread worker;
+
+	private volatile boolean running;
+
+	public ChunkGenerator(long seed, int columns, int rows) {
+		this.columns = columns;
+		this.rows = rows;
+
+		rand = new Random(seed);
+		tileSet = new TileSet(rand.nextLong());
+		queue = new ArrayBlockingQueue<ChunkData>(QUEUESIZE);
+
+		generated = 0;
+	}
+
+	 /**
+	  * Starts the worker thread. The thread fills the queue and then waits until
+	  * {@link ChunkGenerator#next()} makes room.
+	  */
+	public void start() {
+		running = true;
+		worker = new Thread(this, "ChunkGenerator");
+		worker.setDaemon(true);
+		worker.setPriority(Thread.MIN_PRIORITY);
+		worker.start();
+	}
+
+	 /**
+	  * Stops the worker thread and waits for it to finish. Tile maps left in the queue are discarded.
+	  */
+	public void stop() {
+		if(worker == null) {
+			return;
+		}
+
+		running = false;
+		worker.interrupt();
+
+		while(true) {
+			try {
+				worker.join();
+				break;
+			} catch (InterruptedException e) {
+				// retry
+			}
+		}
+
+		worker = null;
+		queue.clear();
+	}
+
+	public void run() {
+		while(running) {
+			try {
+				queue.put(build());
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	 /**
+	  * Returns the next tile map. The worker thread keeps the queue full, so this normally returns straight
+	  * away. If the generator has not been started the tile map is built on the calling thread.
+	  */
+	public ChunkData next() {
+		if(worker == null) {
+			return build();
+		}
+
+		while(true) {
+			try {
+				return queue.take();
+			} catch (InterruptedException e) {
+				// retry
+			}
+		}
+	}
+
+	 /**
+	  * Chooses the next tile map. The first is always the start tileset, after which each tile map is
+	  * either taken from {@link TileSet} or generated, with equal chance.
+	  */
+	private ChunkData build() {
+		ChunkData data;
+
+		if(generated == 0 || rand.nextBoolean()) {
+			data = tileSet.getTileSet();
+		} else {
+			data = generate(getDifficulty());
+		}
+
+		generated++;
+
+		return data;
+	}
+
+	 /**
+	  * @return returns the difficulty, from 1 to MAXDIFFICULTY. It goes up by one every
+	  * CHUNKSPERDIFFICULTY tile maps.
+	  */
+	private int getDifficulty() {
+		return Math.min(MAXDIFFICULTY, 1 + generated / CHUNKSPERDIFFICULTY);
+	}
+
+	 /**
+	  * Builds a playable tile map:
+	  *
+	  * <pre>
+	  * Fill bottom row with walls;
+	  * if(difficulty > 1) {
+	  * 	fill top row with walls so the player can run on it when gravity is reversed;
+	  * }
+	  *
+	  * for(each column, apart from the first and last SAFECOLUMNS) {
+	  * 	roll for a feature:
+	  * 		pit - remove floor (and ceiling) for up to MAXFEATUREWIDTH columns;
+	  * 		hazard - replace floor with hazards for up to MAXFEATUREWIDTH columns;
+	  * 		reverse gravity - place reverse gravity tiles above the floor and below the ceiling;
+	  * 		otherwise - place a run of collectibles above the floor;
+	  * 	skip MINSPACING columns so there is room to land between features;
+	  * }
+	  *
+	  * place enemies above solid floor;
+	  * </pre>
+	  *
+	  * Pits and hazards are at most three columns wide, which the player can always jump over. The first and last
+	  * columns are always solid so tile maps join up.
+	  */
+	ChunkData generate(int difficulty) {
+		int[] cells = new int[columns * rows];
+		Arrays.fill(cells, EMPTY);
+
+		int floor = rows - 1;
+		int ceiling = 0;
+		boolean hasCeiling = difficulty > 1;
+
+		for(int column = 0; column < columns; column++) {
+			set(cells, column, floor, WALL);
+
+			if(hasCeiling) {
+				set(cells, column, ceiling, WALL);
+			}
+		}
+
+		int level = difficulty - 1;
+		int column = SAFECOLUMNS;
+
+		while(column < columns - SAFECOLUMNS - MAXFEATUREWIDTH[level]) {
+			int roll = rand.nextInt(10);
+			int width = 1 + rand.nextInt(MAXFEATUREWIDTH[level]);
+
+			if(roll < PITCHANCE[level]) {
+				for(int i = 0; i < width; i++) {
+					set(cells, column + i, floor, EMPTY);
+
+					if(hasCeiling) {
+						set(cells, column + i, ceiling, EMPTY);
+					}
+				}
+			} else if(roll < PITCHANCE[level] + HAZARDCHANCE[level]) {
+				for(int i = 0; i < width; i++) {
+					set(cells, column + i, floor, HAZARD);
+				}
+			} else if(hasCeiling && roll < PITCHANCE[level] + HAZARDCHANCE[level] + GRAVITYCHANCE[level]) {
+				width = 1;
+				set(cells, column, floor - 2, GRAVITY);
+				set(cells, column, ceiling + 2, GRAVITY);
+			} else {
+				int height = floor - 2 - rand.nextInt(3);
+
+				for(int i = 0; i < width; i++) {
+					set(cells, column + i, height, COLLECTIBLE);
+				}
+			}
+
+			column += width + MINSPACING;
+		}
+
+		placeEnemies(cells, ENEMIES[level], floor);
+
+		return ChunkData.compile(cells, columns);
+	}
+
+	 /**
+	  * Places enemies in empty cells above solid floor. Enemies are placed by {@link Chunk} using the enemy
+	  * image size rather than the tile size, so the floor is checked under the tiles the enemy will cover.
+	  */
+	private void placeEnemies(int[] cells, int count, int floor) {
+		Pixmap enemy = Assets.getInstance().getEnemy();
+		Pixmap wall = Assets.getInstance().getWall();
+
+		int row = (floor - 3) * wall.getHeight() / enemy.getHeight();
+		int enemyColumns = columns * wall.getWidth() / enemy.getWidth();
+
+		for(int i = 0; i < count; i++) {
+			int column = SAFECOLUMNS + rand.nextInt(enemyColumns - SAFECOLUMNS * 2);
+
+			int left = column * enemy.getWidth() / wall.getWidth();
+			int right = ((column + 1) * enemy.getWidth() - 1) / wall.getWidth();
+
+			boolean solid = true;
+
+			for(int tile = left; tile <= right; tile++) {
+				solid &= get(cells, tile, floor) == WALL;
+			}
+
+			if(solid && get(cells, column, row) == EMPTY) {
+				set(cells, column, row, ENEMY);
+			}
+		}
+	}
+
+	 /**
+	  * Converts a column and row to a position in the tile map, see {@link ChunkData#compile(int[], int)}.
+	  */
+	private int indexOf(int column, int row) {
+		return (rows - 1 - row) * columns + column;
+	}
+
+	private int get(int[] cells, int column, int row) {
+		return cells[indexOf(column, row)];
+	}
+
+	private void set(int[] cells, int column, int row, int tile) {
+		cells[indexOf(column, row)] = tile;
+	}
+
+}
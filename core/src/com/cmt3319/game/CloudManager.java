@@ -26,6 +26,13 @@ public class CloudManager {
 	private float screenWidth, screenHeight;
 	
 	public CloudManager(float screenWidth, float screenHeight) {
+		this(screenWidth, screenHeight, new Random().nextLong());
+	}
+	
+	 /**
+	  * @param seed seed for placing and choosing the clouds, the same seed always gives the same sky.
+	  */
+	public CloudManager(float screenWidth, float screenHeight, long seed) {
 		clouds = new ArrayList<Cloud>();
 		
 		this.screenWidth = screenWidth;
@@ -33,7 +40,7 @@ public class CloudManager {
 		
 		timeSoFar = 0f;
 
-		rand = new Random();
+		rand = new Random(seed);
 		
 		initialise();
 	}
@@ -1,7 +1,9 @@
 package com.cmt3319.game;
 
 import java.util.List;
-import android.graphics.Color;
+import java.util.Random;
+
+import com.cmt3319.interfaces.Color;
 import com.cmt3319.interfaces.Game;
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Pixmap;
@@ -20,6 +22,13 @@ import com.cmt3319.interfaces.Input.TouchEvent;
  * taps on the pause image whilst in the running state. This provides resume and quit options. Resume goes back to
  * running and quit loads {@link MainMenuScreen}.
  *
+ * The frame is only drawn again when something on it has changed, see {@link GamePlayScreen#present(float, float)}.
+ *
+ * Everything random in a session comes from two seeds, one for the {@link Map} and one for the
+ * {@link CloudManager}, so a session started with the same seeds and given the same touch events on each
+ * tick plays out exactly the same. The seeds are returned by {@link GamePlayScreen#getWorldSeed()} and
+ * {@link GamePlayScreen#getCloudSeed()}, so a session can be recorded and played back, see the replay package.
+ *
  * @author Robert Wells
  * @version 1.0
  *
@@ -52,13 +61,34 @@ public class GamePlayScreen extends Screen {
 	
 	private CloudManager cloudManager;
 	
+	private boolean frameDirty;
+	
+	private GameState presentedState;
+	
+	private int presentedScore;
+	
+	private static final Random seeds = new Random();
+	
+	private final long worldSeed, cloudSeed;
+	
 	 /**
 	  * Initialises {@link GamePlayScreen#score}, {@link GamePlayScreen#player}, 
 	  * and {@link GamePlayScreen#cloudManager}.Starts background music.
 	  */
 	public GamePlayScreen(Game game) {
+		this(game, seeds.nextLong(), seeds.nextLong());
+	}
+	
+	 /**
+	  * @param worldSeed seed for the {@link Map}.
+	  * @param cloudSeed seed for the {@link CloudManager}.
+	  */
+	public GamePlayScreen(Game game, long worldSeed, long cloudSeed) {
 		super(game);
 		
+		this.worldSeed = worldSeed;
+		this.cloudSeed = cloudSeed;
+		
 		score = new Score();
 		
 		this.game = game;
@@ -68,7 +98,7 @@ public class GamePlayScreen extends Screen {
 	
 		player = new Player(screenWidth * 0.3f, screenHeight * 0.6f);
 	
-		map = new Map(screenWidth);
+		map = new Map(screenWidth, worldSeed);
 		
 		pause = Assets.getInstance().getPause();
 		pauseX = 0;
@@ -90,16 +120,32 @@ public class GamePlayScreen extends Screen {
 		restartX = screenWidth / 2 - (restart.getWidth() / 2);
 		restartY = (int) (screenHeight * 0.5f);
 		
-		cloudManager = new CloudManager(screenWidth, screenHeight);
+		cloudManager = new CloudManager(screenWidth, screenHeight, cloudSeed);
 		
 		tapToStart = Assets.getInstance().getTapToStart();
 		
 		Settings.getInstance().setGravityReversed(false);
 		
+		frameDirty = true;
+		presentedState = state;
+		presentedScore = score.getScore();
+		
 		if(Settings.getInstance().isSoundEnabled())
 			Assets.getInstance().getBackground().play();
 		
 		
+	}
+	
+	public long getWorldSeed() {
+		return worldSeed;
+	}
+	
+	public long getCloudSeed() {
+		return cloudSeed;
+	}
+	
+	Map getMap() {
+		return map;
 	}
 	
 	 /**
@@ -116,10 +162,14 @@ public class GamePlayScreen extends Screen {
 	  * 
 	  * </pre>
 	  * 
-	  * The methods are passed a list of touchevents.
+	  * The methods are passed a list of touchevents. Before this the positions of the player, enemies
+	  * and world are saved so {@link GamePlayScreen#present(float, float)} can draw between ticks.
 	  */
 	@Override
 	public void update(float deltaTime) {
+		player.savePreviousPosition();
+		map.savePreviousState();
+
 		List<TouchEvent> touchEvents = game.getInput().getTouchEvents();
 		game.getInput().getKeyEvents();
 
@@ -152,10 +202,10 @@ public class GamePlayScreen extends Screen {
 	  */
 	private Boolean CheckOutOfBounds() {
 		
-		return player.getPosition().y > game.getGraphics().getHeight()  ||
-				player.getPosition().y < 0 || player.getPosition().x > 
+		return player.getY() > game.getGraphics().getHeight()  ||
+				player.getY() < 0 || player.getX() > 
 				(game.getGraphics().getWidth() + 10)
-				|| player.getPosition().x < 0 -10;
+				|| player.getX() < 0 -10;
 	}
 	
 	 /**
@@ -187,10 +237,11 @@ public class GamePlayScreen extends Screen {
 	  * for(each enemy in {@link Map#getEnemies()}) {
 	  * 	update enemy; ({@link MovingObject#update(float)}
 	  * 	check collision with floor; 
-	  * 	if(enemy collides with player({@link Map#checkCollisionBetweenObjects(MovingObject, MovingObject)}) {
-	  * 		set state to game over;
-	  * 		return;
-	  * 	}
+	  * }
+	  * 
+	  * if(enemy collides with player({@link Map#checkEnemyCollisions(MovingObject)}) {
+	  * 	set state to game over;
+	  * 	return;
 	  * }
 	  * 
 	  * Check for input by calling {@link GamePlayScreen#updateRunningInput(List)};
@@ -228,11 +279,11 @@ public class GamePlayScreen extends Screen {
 		
 			enemy.update(deltaTime);
 			map.checkObjectCollisionWithFloor(enemy);
-			
-			if(map.checkCollisionBetweenObjects(enemy, player)) {
-				gameOver();
-				return;
-			}
+		}
+		
+		if(map.checkEnemyCollisions(player)) {
+			gameOver();
+			return;
 		}
 	
 		updateRunningInput(touchEvents);		
@@ -251,11 +302,11 @@ public class GamePlayScreen extends Screen {
 	  * 		}
 	  * 
 	  * 		if(right side of screen pressed) {
-	  * 			make player jump; ({@link Player#setJumping(Boolean)})
+	  * 			make player jump; ({@link Player#setJumping(boolean)})
 	  * 		}
 	  * 
 	  * 		if(left side of screen pressed) {
-	  * 			set player moving to false; ({@link Player#setMoving(Boolean)})
+	  * 			set player moving to false; ({@link Player#setMoving(boolean)})
 	  * 		}
 	  * 
 	  * 	}
@@ -364,26 +415,66 @@ public class GamePlayScreen extends Screen {
 		}
 	}
 	
+	@Override
+	public void present(float deltaTime) {
+		present(deltaTime, 1);
+	}
+	
 	 /**
-	  * Invokes {@link CloudManager#draw(Graphics)}, {@link Map#drawWorld(Graphics)},
-	  * {@link Player#draw(Graphics)}, and {@link Score#draw(Graphics)} regardless of
-	  * game state. Draws "taptostart" image if game state equals ready, draws pause
-	  * menu if game state equals running, draws resume and quit images if game state equals paused,
-	  * and draws restart and quit images if state equals game over.
+	  * Draws the frame if it has changed since the last one:
+	  * 
+	  * <pre>
+	  * while running - every frame, as the world and clouds scroll, the score goes up and everything is drawn
+	  * 		between ticks;
+	  * otherwise - when the score or the game state has changed, or the screen has been resumed;
+	  * </pre>
+	  * 
+	  * If nothing has changed, as in the ready, paused and game over states, nothing is drawn and the
+	  * last frame is shown again. The frame is drawn bottom to top:
+	  * 
+	  * <pre>
+	  * clear to the sky colour and draw the clouds; ({@link CloudManager#draw(Graphics)})
+	  * draw the world and player; ({@link Map#drawWorld(Graphics, float)} and {@link Player#draw(Graphics, float, float)})
+	  * draw the score; ({@link Score#present(Graphics)})
+	  * draw the images for the game state; ({@link GamePlayScreen#drawOverlay(Graphics)})
+	  * </pre>
+	  * 
+	  * alpha is passed on to the map and player so they are drawn between the last two ticks.
 	  */
 	@Override
-	public void present(float deltaTime) {
+	public void present(float deltaTime, float alpha) {
+		if(state == GameState.Running || state != presentedState || score.getScore() != presentedScore) {
+			frameDirty = true;
+		}
+		
+		if(!frameDirty) {
+			return;
+		}
+		
+		presentedState = state;
+		presentedScore = score.getScore();
+		frameDirty = false;
+		
 		Graphics g = game.getGraphics();
-		g.clear(Color.rgb(75, 125, 250));
+		g.clear(Color.convert(75, 125, 250, 255));
 		
 		cloudManager.draw(g);
 		
-		map.drawWorld(g);
+		map.drawWorld(g, alpha);
+		
+		player.draw(g, 0, alpha);
 		
-		player.draw(g);
-	
 		score.present(g);
 		
+		drawOverlay(g);
+	}
+	
+	 /**
+	  * Draws "taptostart" image if game state equals ready, draws pause
+	  * menu if game state equals running, draws resume and quit images if game state equals paused,
+	  * and draws restart and quit images if state equals game over.
+	  */
+	private void drawOverlay(Graphics g) {
 		if(state == GameState.Ready) {
 			g.drawPixmap(tapToStart, screenWidth / 2 - (tapToStart.getWidth() / 2), 
 					screenHeight / 2 - (tapToStart.getHeight() / 2));
@@ -426,6 +517,7 @@ public class GamePlayScreen extends Screen {
 		if(Settings.getInstance().isSoundEnabled())
 			Assets.getInstance().getBackground().play();
 		
+		frameDirty = true;
 	}
 
 	@Override
@@ -433,6 +525,7 @@ public class GamePlayScreen extends Screen {
 		if(Settings.getInstance().isSoundEnabled())
 			Assets.getInstance().getBackground().stop();
 		
+		map.dispose();
 	}
 	
 	
@@ -2,8 +2,7 @@ package com.cmt3319.game;
 
 import java.util.List;
 
-import android.graphics.Color;
-
+import com.cmt3319.interfaces.Color;
 import com.cmt3319.interfaces.Game;
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Pixmap;
@@ -69,7 +68,7 @@ public class HelpScreenOne extends Screen {
 	public void present(float deltaTime) {
 		Graphics g = game.getGraphics();
 		
-		g.clear(Color.rgb(75, 125, 250));
+		g.clear(Color.convert(75, 125, 250, 255));
 		
 
 		
@@ -2,8 +2,7 @@ package com.cmt3319.game;
 
 import java.util.List;
 
-import android.graphics.Color;
-
+import com.cmt3319.interfaces.Color;
 import com.cmt3319.interfaces.Game;
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Pixmap;
@@ -59,7 +58,7 @@ public class HelpScreenTwo extends Screen  {
 	public void present(float deltaTime) {
 		Graphics g = game.getGraphics();
 		
-		g.clear(Color.WHITE);
+		g.clear(Color.convert(255, 255, 255, 255));
 		
 		g.drawPixmap(image, 0, g.getHeight() / 2 - (image.getHeight()/2));
 		
@@ -0,0 +1,273 @@
+package com.cmt3319.game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.cmt3319.game.Tile.TileID;
+import com.cmt3319.interfaces.FileIO;
+
+/**
+ * The tilesets used by {@link TileSet}, stored in a binary file in the assets folder rather than in the code.
+ * A pack holds a number of tables, {@link LevelPack#FIRST}, {@link LevelPack#EASY}, {@link LevelPack#MEDIUM} and
+ * {@link LevelPack#HARD}, each a list of tile maps already compiled into {@link ChunkData}.
+ *
+ * The file is big endian and laid out as:
+ *
+ * <pre>
+ * int magic, short version, short columns, short rows, short number of tile ids, short number of tables;
+ * for(each table) {
+ * 	short number of tile maps;
+ * }
+ * for(each tile map, table by table) {
+ * 	short number of runs for each tile id, short number of enemies;
+ * 	short row, column and length of each run;
+ * 	short column and row of each enemy;
+ * }
+ * </pre>
+ *
+ * This is the same layout as {@link ChunkData} holds in memory, so {@link LevelPack#read(InputStream)} reads the whole
+ * file into one buffer and copies each tile map's runs and enemies out in bulk rather than parsing it cell by cell.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class LevelPack {
+
+	public static final int FIRST = 0, EASY = 1, MEDIUM = 2, HARD = 3;
+
+	private static final int MAGIC = 0x534A4C50, VERSION = 1;
+
+	private static final TileID[] TILEIDS = TileID.values();
+
+	private final ChunkData[][] tables;
+
+	public LevelPack(ChunkData[][] tables) {
+		this.tables = tables;
+	}
+
+	public ChunkData[] getTable(int table) {
+		return tables[table];
+	}
+
+	public int getTableCount() {
+		return tables.length;
+	}
+
+	 /**
+	  * Loads a pack from the assets folder.
+	  *
+	  * @throws RuntimeException if the pack cannot be read, the game cannot run without it.
+	  */
+	public static LevelPack load(FileIO file, String fileName) {
+		InputStream in = null;
+
+		try {
+			in = file.readAsset(fileName);
+			return read(in);
+		} catch (IOException e) {
+			throw new RuntimeException("Couldn't load level pack from asset '" + fileName + "'", e);
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	 /**
+	  * Reads a pack, checking every count, run and enemy against the header so a corrupt pack is reported as an
+	  * IOException rather than failing later when a chunk is loaded from it.
+	  *
+	  * @throws IOException if the pack cannot be read or is not valid.
+	  */
+	public static LevelPack read(InputStream in) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(readFully(in));
+
+		try {
+			if(buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+				throw new IOException("Not a level pack");
+			}
+
+			int columns = buffer.getShort();
+			int rows = buffer.getShort();
+
+			if(columns <= 0 || rows <= 0) {
+				throw new IOException("Level pack has tile maps of " + columns + "x" + rows);
+			}
+
+			if(buffer.getShort() != TILEIDS.length) {
+				throw new IOException("Level pack has different tile ids");
+			}
+
+			int tableCount = buffer.getShort();
+
+			if(tableCount <= HARD) {
+				throw new IOException("Level pack has " + tableCount + " tables, expected " + (HARD + 1));
+			}
+
+			ChunkData[][] tables = new ChunkData[tableCount][];
+
+			for(int i = 0; i < tables.length; i++) {
+				int count = buffer.getShort();
+
+				if(count <= 0) {
+					throw new IOException("Level pack table " + i + " has " + count + " tile maps");
+				}
+
+				tables[i] = new ChunkData[count];
+			}
+
+			for(int i = 0; i < tables.length; i++) {
+				for(int j = 0; j < tables[i].length; j++) {
+					tables[i][j] = readChunk(buffer, columns, rows);
+				}
+			}
+
+			if(buffer.hasRemaining()) {
+				throw new IOException("Level pack has " + buffer.remaining() + " bytes after the last tile map");
+			}
+
+			return new LevelPack(tables);
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Level pack is truncated");
+		}
+	}
+
+	private static ChunkData readChunk(ByteBuffer buffer, int columns, int rows) throws IOException {
+		int[] firstRun = new int[TILEIDS.length + 1];
+
+		for(int id = 0; id < TILEIDS.length; id++) {
+			int count = buffer.getShort();
+
+			if(count < 0) {
+				throw new IOException("Level pack has " + count + " runs of " + TILEIDS[id]);
+			}
+
+			firstRun[id + 1] = firstRun[id] + count;
+		}
+
+		int enemyCount = buffer.getShort();
+
+		if(enemyCount < 0) {
+			throw new IOException("Level pack has " + enemyCount + " enemies in a tile map");
+		}
+
+		// Checked before the arrays are made so a bad count cannot ask for more than the file holds.
+		if((firstRun[TILEIDS.length] * 3 + enemyCount * 2) * 2 > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+
+		short[] runs = new short[firstRun[TILEIDS.length] * 3];
+		short[] enemies = new short[enemyCount * 2];
+
+		buffer.asShortBuffer().get(runs);
+		buffer.position(buffer.position() + runs.length * 2);
+
+		buffer.asShortBuffer().get(enemies);
+		buffer.position(buffer.position() + enemies.length * 2);
+
+		for(int i = 0; i < runs.length; i += 3) {
+			int row = runs[i], column = runs[i + 1], length = runs[i + 2];
+
+			if(row < 0 || row >= rows || column < 0 || length <= 0 || column + length > columns) {
+				throw new IOException("Level pack has a run of " + length + " at column " + column + ", row " + row
+						+ " outside its " + columns + "x" + rows + " tile map");
+			}
+		}
+
+		for(int i = 0; i < enemies.length; i += 2) {
+			int column = enemies[i], row = enemies[i + 1];
+
+			if(column < 0 || column >= columns || row < 0 || row >= rows) {
+				throw new IOException("Level pack has an enemy at column " + column + ", row " + row + " outside its "
+						+ columns + "x" + rows + " tile map");
+			}
+		}
+
+		return new ChunkData(columns, rows, runs, firstRun, enemies);
+	}
+
+	private static byte[] readFully(InputStream in) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(in.available(), 1024));
+		byte[] chunk = new byte[4096];
+		int read;
+
+		while((read = in.read(chunk)) != -1) {
+			bytes.write(chunk, 0, read);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	 /**
+	  * Writes the pack in the format read by {@link LevelPack#read(InputStream)}. Every tile map in the pack
+	  * must have the same number of columns and rows.
+	  */
+	public void write(OutputStream stream) throws IOException {
+		DataOutputStream out = new DataOutputStream(stream);
+		ChunkData sample = findSample();
+
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeShort(sample == null ? 0 : sample.getColumns());
+		out.writeShort(sample == null ? 0 : sample.getRows());
+		out.writeShort(TILEIDS.length);
+		out.writeShort(tables.length);
+
+		for(int i = 0; i < tables.length; i++) {
+			out.writeShort(tables[i].length);
+		}
+
+		for(int i = 0; i < tables.length; i++) {
+			for(int j = 0; j < tables[i].length; j++) {
+				writeChunk(out, tables[i][j], sample);
+			}
+		}
+
+		out.flush();
+	}
+
+	private void writeChunk(DataOutputStream out, ChunkData data, ChunkData sample) throws IOException {
+		if(data.getColumns() != sample.getColumns() || data.getRows() != sample.getRows()) {
+			throw new IOException("Tile maps in a level pack must be the same size");
+		}
+
+		for(int id = 0; id < TILEIDS.length; id++) {
+			out.writeShort(data.getEndRun(TILEIDS[id]) - data.getFirstRun(TILEIDS[id]));
+		}
+
+		out.writeShort(data.getEnemyCount());
+
+		for(int id = 0; id < TILEIDS.length; id++) {
+			for(int run = data.getFirstRun(TILEIDS[id]); run < data.getEndRun(TILEIDS[id]); run++) {
+				out.writeShort(data.getRunRow(run));
+				out.writeShort(data.getRunColumn(run));
+				out.writeShort(data.getRunLength(run));
+			}
+		}
+
+		for(int i = 0; i < data.getEnemyCount(); i++) {
+			out.writeShort(data.getEnemyColumn(i));
+			out.writeShort(data.getEnemyRow(i));
+		}
+	}
+
+	private ChunkData findSample() {
+		for(int i = 0; i < tables.length; i++) {
+			if(tables[i].length > 0) {
+				return tables[i][0];
+			}
+		}
+
+		return null;
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.cmt3319.game;
+
+import com.cmt3319.interfaces.Game;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.interfaces.Screen;
+
+/**
+ * First screen loaded when game is run, loads all assets associated with project. Sprites are taken from
+ * the {@link TextureAtlas} rather than loaded one image at a time. 
+ * Does not present anything to user but sets {@link MainMenuScreen} as the current screen when
+ * it has finished loading. Interfaces with the setter methods in {@link Assets} and extends
+ * {@link Screen}.
+ * 
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class LoadingScreen extends Screen {
+	
+	public LoadingScreen(Game game) {
+		super(game);
+	}
+	
+	@Override
+	public void update(float deltaTime) {
+		Graphics g = game.getGraphics();
+		
+		TextureAtlas atlas = TextureAtlas.load(g, game.getFileIO(), "atlas.txt");
+		Assets.getInstance().setAtlas(atlas);
+		
+		Assets.getInstance().setWall(atlas.get("wall.png"));
+		Assets.getInstance().setHazard(atlas.get("hazard.png"));
+		Assets.getInstance().setPlayer(atlas.get("player.png"));
+		Assets.getInstance().setPlayerReversed(atlas.get("playerReverseGravity.png"));
+		Assets.getInstance().setPlayerJumping(atlas.get("playerJumping.png"));
+		Assets.getInstance().setPlayerJumpingReversed(atlas.get("playerJumpingReversed.png"));
+		Assets.getInstance().setPlayerDead(atlas.get("playerDead.png"));
+		Assets.getInstance().setCollectible(atlas.get("collectible.png"));
+		Assets.getInstance().setEnemy(atlas.get("enemy.png"));
+		Assets.getInstance().setEnemyReversed(atlas.get("enemyReversed.png"));
+		Assets.getInstance().setNumbers(atlas.get("numbers.png"));
+		Assets.getInstance().setCollectibleSound(game.getAudio().newSound("collectible.wav"));
+		Assets.getInstance().setResume(atlas.get("resume.png"));
+		Assets.getInstance().setReverseGravity(atlas.get("reverseGravity.png"));
+		Assets.getInstance().setQuit(atlas.get("quit.png"));
+		Assets.getInstance().setGameOver(atlas.get("gameOver.png"));
+		Assets.getInstance().setRestart(atlas.get("restart.png"));
+		Assets.getInstance().setTapToStart(atlas.get("tapToStart.png"));
+		Assets.getInstance().setHelpScreenOne(g.newPixmap("helpScreenOne.png", PixmapFormat.RGB565));
+		Assets.getInstance().setHelpScreenTwo(g.newPixmap("helpScreenTwo.png", PixmapFormat.RGB565));
+		Assets.getInstance().setHelpScreenTwoHeading(g.newPixmap("helpScreenTwoHeading.png", PixmapFormat.RGB565));
+		Assets.getInstance().setBackground(game.getAudio().newMusic("backgroundMusic.mp3"));
+		Assets.getInstance().setJump(game.getAudio().newSound("jump.wav"));
+		Assets.getInstance().setHurt(game.getAudio().newSound("hurt.wav"));
+		
+		Pixmap[] clouds = new Pixmap[]{atlas.get("cloudOne.png"), atlas.get("cloudTwo.png"),
+				atlas.get("cloudThree.png")};
+		Assets.getInstance().setClouds(clouds);
+		
+		Assets.getInstance().setPlay(atlas.get("play.png"));
+		Assets.getInstance().setHelp(atlas.get("help.png"));
+		Assets.getInstance().setHighscore(atlas.get("highScore.png"));
+		Assets.getInstance().setAudioOn(atlas.get("audioOn.png"));
+		Assets.getInstance().setAudioOff(atlas.get("audioOff.png"));
+		Assets.getInstance().setBackArrow(atlas.get("backArrow.png"));
+		Assets.getInstance().setForwardArrow(atlas.get("forwardArrow.png"));
+		Assets.getInstance().setPause(atlas.get("pause.png"));
+		Assets.getInstance().setMenuSelect(game.getAudio().newSound("click.ogg"));
+		Assets.getInstance().setTitle(atlas.get("title.png"));
+		Assets.getInstance().setLevelPack(LevelPack.load(game.getFileIO(), "levels.pack"));
+		
+		
+		Settings.getInstance().load(game.getFileIO());
+		
+		game.setScreen(new MainMenuScreen(game));
+		
+		
+		
+	}
+
+	@Override
+	public void present(float deltaTime) {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void pause() {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void resume() {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void dispose() {
+		// TODO Auto-generated method stub
+		
+	}
+	
+	
+	
+
+}
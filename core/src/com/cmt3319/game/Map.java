@@ -0,0 +1,1033 @@
+package com.cmt3319.game;
+
+import java.util.ArrayList;
+
+import com.cmt3319.game.Tile.TileID;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.interfaces.Pool.PoolObjectFactory;
+import com.cmt3319.math.RectF;
+
+/**
+ * Creates and draws world based on {@link TileSet} and {@link Tile} and is responsible
+ * for dealing with collisions with tilemaps and {@link Player}. 
+ * 
+ * The world is held in a fixed size ring of {@link Chunk}s, each built from one tileset received from
+ * {@link ChunkGenerator#next()}. Chunks are placed one after another, the oldest is retired once it has
+ * scrolled off screen and a new one is loaded ahead of the screen. Translates world to give sense of player movement.
+ * 
+ * Tiles and enemies are kept in {@link Pool}s and reused as chunks are loaded, so once the pools have filled
+ * no new tiles are created while the game is running.
+ *
+ * Collisions with walls are tested against the rectangles each {@link Chunk} merges its walls into rather
+ * than against each wall tile, see {@link Map#findWallRects()}.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class Map {
+
+	static final int MAPWIDTH = 40, MAPHEIGHT = 15;
+
+	private final int WORLDMOVEMENT = 180, CHUNKCAPACITY = 4,
+			MAXPOOLEDTILES = 1024, MAXPOOLEDENEMIES = 64, MAXSUBSTEPS = 8;
+	
+	private ArrayList <MovingObject> enemies;
+
+	private Pool<Tile> tilePool;
+
+	private Pool<MovingObject> enemyPool;
+
+	private Broadphase broadphase;
+
+	private Chunk[] chunks;
+
+	private final int chunkCapacity;
+
+	private int firstChunk, chunkCount;
+
+	// The column after the last chunk loaded, where the next one starts. Kept apart from the ring so the
+	// world carries on from there even after every chunk in the ring has been retired.
+	private int endColumn;
+
+	private ChunkGenerator chunkGenerator;
+
+	private float screenWidth;
+
+	private int tileWidth, tileHeight;
+
+	private float scrollX, previousScrollX;
+
+	private int firstColumn, lastColumn, firstRow, lastRow;
+
+	private float bodyLeft, bodyTop, bodyRight, bodyBottom;
+
+	private float sweepX, sweepY;
+
+	private int submittedSprites, culledSprites;
+
+	private RectF[] wallRects;
+
+	private int wallRectCount, wallRectMark;
+
+	public Map(float screenWidth) {
+		this(screenWidth, System.nanoTime());
+	}
+
+	 /**
+	  * @param seed seed for the {@link ChunkGenerator}, the same seed always builds the same world.
+	  */
+	public Map(float screenWidth, long seed) {
+		this(screenWidth, seed, 0);
+	}
+
+	 /**
+	  * Builds a map whose ring holds up to chunkCapacity chunks rather than the usual CHUNKCAPACITY. The ring
+	  * is only filled as far as one screen width ahead of the screen, so a larger ring also needs a wider
+	  * screenWidth to be filled.
+	  *
+	  * For the benchmarks only, to measure larger worlds than the game loads. The game always builds its map
+	  * with {@link Map#Map(float, long)}, and this constructor is package-private to keep it out of the game's API.
+	  *
+	  * @param chunkCapacity number of chunks in the ring, or 0 for CHUNKCAPACITY.
+	  */
+	Map(float screenWidth, long seed, int chunkCapacity) {
+		this.chunkCapacity = chunkCapacity > 0 ? chunkCapacity : CHUNKCAPACITY;
+
+		enemies = new ArrayList<MovingObject>();
+
+		PoolObjectFactory<Tile> tileFactory = new PoolObjectFactory<Tile>() {
+			@Override
+			public Tile createObject() {
+				return new Tile(Assets.getInstance().getWall(), 0, 0, TileID.WALL);
+			}
+		};
+		tilePool = new Pool<Tile>(tileFactory, MAXPOOLEDTILES);
+
+		PoolObjectFactory<MovingObject> enemyFactory = new PoolObjectFactory<MovingObject>() {
+			@Override
+			public MovingObject createObject() {
+				return new MovingObject(Assets.getInstance().getEnemy(), Assets.getInstance().getEnemyReversed(), 0, 0);
+			}
+		};
+		enemyPool = new Pool<MovingObject>(enemyFactory, MAXPOOLEDENEMIES);
+
+		broadphase = new Broadphase(MAXPOOLEDENEMIES);
+
+		wallRects = new RectF[8];
+
+		chunks = new Chunk[this.chunkCapacity];
+		for(int i = 0; i < this.chunkCapacity; i++) {
+			chunks[i] = new Chunk(MAPWIDTH, MAPHEIGHT, tilePool, enemyPool);
+		}
+
+		firstChunk = 0;
+		chunkCount = 0;
+		endColumn = 0;
+
+		chunkGenerator = new ChunkGenerator(seed, MAPWIDTH, MAPHEIGHT);
+		chunkGenerator.start();
+
+		this.screenWidth = screenWidth;
+
+		tileWidth = Assets.getInstance().getWall().getWidth();
+		tileHeight = Assets.getInstance().getWall().getHeight();
+
+		scrollX = 0f;
+		previousScrollX = 0f;
+
+		updateChunks();
+	}
+
+	 /**
+	  * Retires and admits {@link Chunk}s so that the ring always covers the screen plus one screen
+	  * width ahead of it. Called from the constructor to load the initial tilemaps and from
+	  * {@link Map#updateWorldLocation(float, Score)} as the world scrolls.
+	  * 
+	  * <pre>
+	  * while(oldest chunk is entirely left of the screen) {
+	  * 	retire it by moving the start of the ring on by one;
+	  * }
+	  * 
+	  * while(newest chunk ends less than a screen width past the right of the screen and ring is not full) {
+	  * 	load the next tilemap from {@link ChunkGenerator#next()} into the next free chunk,
+	  * 	starting at the column after the newest chunk;
+	  * }
+	  * </pre>
+	  * 
+	  * Retiring or admitting a chunk does not depend on how many tiles are loaded. The tiles left in a
+	  * retired chunk are cleared when it is next loaded. Enemies created by a loaded chunk are added to 
+	  * {@link Map#broadphase}.
+	  */
+	private void updateChunks() {
+		while(chunkCount > 0 && chunks[firstChunk].getEndColumn() * tileWidth < scrollX) {
+			firstChunk = (firstChunk + 1) % chunkCapacity;
+			chunkCount--;
+		}
+
+		while(chunkCount < chunkCapacity) {
+			if(chunkCount > 0 && endColumn * tileWidth > scrollX + screenWidth * 2) {
+				break;
+			}
+
+			int loadedEnemies = enemies.size();
+
+			Chunk chunk = chunks[(firstChunk + chunkCount) % chunkCapacity];
+			chunk.load(chunkGenerator.next(), endColumn, enemies);
+			endColumn = chunk.getEndColumn();
+			chunkCount++;
+
+			for(int i = loadedEnemies; i < enemies.size(); i++) {
+				broadphase.add(enemies.get(i));
+			}
+		}
+	}
+
+	 /**
+	  * Finds the chunk covering a world column. Chunks are placed one after another so this is
+	  * worked out from the column rather than searched for.
+	  * 
+	  * @return returns the chunk, or null if the column is not loaded.
+	  */
+	private Chunk getChunk(int column) {
+		if(chunkCount == 0) {
+			return null;
+		}
+
+		int offset = column - chunks[firstChunk].getStartColumn();
+
+		if(offset < 0) {
+			return null;
+		}
+
+		int index = offset / MAPWIDTH;
+
+		if(index >= chunkCount) {
+			return null;
+		}
+
+		return chunks[(firstChunk + index) % chunkCapacity];
+	}
+
+	private Tile getTile(int column, int row) {
+		Chunk chunk = getChunk(column);
+
+		if(chunk == null) {
+			return null;
+		}
+
+		return chunk.getTile(column, row);
+	}
+
+	private RectF markWallRect(int column, int row) {
+		Chunk chunk = getChunk(column);
+
+		if(chunk == null) {
+			return null;
+		}
+
+		return chunk.markWallRect(column, row, wallRectMark);
+	}
+
+	/**
+	  * Collects the merged wall rectangles covering the cells found by {@link Map#findCells()} or
+	  * {@link Map#findSweptCells()} into {@link Map#wallRects}. A rectangle covers many cells, so each query
+	  * takes a new mark and {@link Chunk#markWallRect(int, int, int)} only hands a rectangle over the first time
+	  * it is found with that mark. Rectangles entirely left of the screen are skipped the same way
+	  * {@link Tile#isOnScreen(float)} skips tiles.
+	  * 
+	  * On a flat floor the body overlaps one rectangle, where it overlapped a tile in every column it covered.
+	  */
+	private void findWallRects() {
+		wallRectCount = 0;
+
+		if(++wallRectMark == 0) {
+			wallRectMark = 1;
+		}
+
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				RectF rect = markWallRect(column, row);
+
+				if(rect != null && rect.right > scrollX) {
+					addWallRect(rect);
+				}
+			}
+		}
+	}
+
+	private void addWallRect(RectF rect) {
+		if(wallRectCount == wallRects.length) {
+			RectF[] newRects = new RectF[wallRects.length * 2];
+			System.arraycopy(wallRects, 0, newRects, 0, wallRects.length);
+			wallRects = newRects;
+		}
+
+		wallRects[wallRectCount++] = rect;
+	}
+
+	/**
+	  * Checks collisions between two objects based on bounding boxes. If object two
+	  * is instance of {@link Player} then the player is dead. This methods prevents two enemies
+	  * from overlapping with each other or checks if a player has hit and enemy.	
+	  *   
+	  */
+	public Boolean checkCollisionBetweenObjects(MovingObject one, MovingObject two) {
+		RectF boxOne = one.getBoundingBox();
+		RectF boxTwo = two.getBoundingBox();
+
+		float offsetOne = getScrollOffset(one);
+		float offsetTwo = getScrollOffset(two);
+
+		if(intersects(boxOne.left + offsetOne, boxOne.top, boxOne.right + offsetOne, boxOne.bottom,
+				boxTwo.left + offsetTwo, boxTwo.top, boxTwo.right + offsetTwo, boxTwo.bottom)){
+			if(two instanceof Player) {
+				two.setAlive(false);
+			}
+			
+			if(Settings.getInstance().isSoundEnabled()) {
+				Assets.getInstance().getHurt().play(2);
+			}
+			
+			
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	  * Checks enemies against each other and against the player, once the enemies have been updated for the tick.
+	  * {@link Map#broadphase} is updated and swept to find the enemies that overlap on the x plane:
+	  * 
+	  * <pre>
+	  * for(each pair of enemies overlapping on the x plane) {
+	  * 	if(they intersect) {
+	  * 		separate them ({@link Map#separateEnemies(MovingObject, MovingObject)});
+	  * 	}
+	  * }
+	  * 
+	  * for(each enemy overlapping the player on the x plane) {
+	  * 	if({@link Map#checkCollisionBetweenObjects(MovingObject, MovingObject)}) {
+	  * 		return true;
+	  * 	}
+	  * }
+	  * </pre>
+	  * 
+	  * So only enemies near each other or the player are tested, rather than every enemy against every other.
+	  * 
+	  * @return returns true if an enemy has hit the player.
+	  */
+	public Boolean checkEnemyCollisions(MovingObject player) {
+		broadphase.update();
+
+		int pairs = broadphase.findPairs();
+
+		for(int i = 0; i < pairs; i++) {
+			MovingObject one = broadphase.getPairFirst(i);
+			MovingObject two = broadphase.getPairSecond(i);
+
+			RectF boxOne = one.getBoundingBox();
+			RectF boxTwo = two.getBoundingBox();
+
+			if(intersects(boxOne.left, boxOne.top, boxOne.right, boxOne.bottom, 
+					boxTwo.left, boxTwo.top, boxTwo.right, boxTwo.bottom)) {
+				separateEnemies(one, two);
+			}
+		}
+
+		RectF playerBox = player.getBoundingBox();
+		float playerLeft = playerBox.left + getScrollOffset(player);
+		float playerRight = playerBox.right + getScrollOffset(player);
+
+		for(int i = broadphase.findFirst(playerLeft); i < broadphase.size() && broadphase.getLeft(i) < playerRight; i++) {
+			if(checkCollisionBetweenObjects(broadphase.get(i), player)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	  * Stops two enemies overlapping by moving the one furthest from the floor out of the other, as if
+	  * it was standing on it. Which enemy is furthest from the floor depends on {@link Settings#isGravityReversed()}.
+	  */
+	private void separateEnemies(MovingObject one, MovingObject two) {
+		RectF boxOne = one.getBoundingBox();
+		RectF boxTwo = two.getBoundingBox();
+
+		boolean reversed = Settings.getInstance().isGravityReversed();
+		MovingObject upper = (boxOne.top < boxTwo.top) != reversed ? one : two;
+		RectF lower = upper == one ? boxTwo : boxOne;
+		RectF upperBox = upper.getBoundingBox();
+
+		float overlap = calculateYOverlap(upperBox.top, upperBox.bottom, lower);
+
+		upper.setDesiredPosition(upper.getDesiredX(), upper.getDesiredY() + (reversed ? overlap : -overlap));
+		upper.setPositionToDesired();
+		upper.setVelocity(upper.getVelocityX(), 0f);
+		upper.setOnGround(true);
+	}
+
+	public void drawWorld(Graphics g) {
+		drawWorld(g, 1);
+	}
+
+	/**
+	  * Iterates through {@link Map#chunks} and {@link Map#enemies} and invokes their draw methods,
+	  * passing the scroll so they are drawn relative to the screen. The scroll and enemies are drawn 
+	  * alpha of the way from where they were at {@link Map#savePreviousState()} to where they are now.
+	  * 
+	  * Chunks are loaded up to a screen width ahead, so everything is culled against the screen first:
+	  * 
+	  * <pre>
+	  * for(each chunk) {
+	  * 	if(chunk ends left of the screen or starts right of it) {
+	  * 		skip it and all of its sprites;
+	  * 	} else {
+	  * 		draw it, culling its overlay tiles one by one;
+	  * 	}
+	  * }
+	  * for(each enemy) {
+	  * 	draw it if it is on screen;
+	  * }
+	  * </pre>
+	  * 
+	  * The number of sprites drawn and culled each frame are kept in {@link Map#submittedSprites} and
+	  * {@link Map#culledSprites}.
+	  */
+	public void drawWorld(Graphics g, float alpha) {
+		float drawScrollX = previousScrollX + (scrollX - previousScrollX) * alpha;
+
+		submittedSprites = 0;
+		culledSprites = 0;
+
+		for(int i = 0; i < chunkCount; i++) {
+			Chunk chunk = chunks[(firstChunk + i) % chunkCapacity];
+
+			if(chunk.getEndColumn() * tileWidth <= drawScrollX 
+					|| chunk.getStartColumn() * tileWidth >= drawScrollX + screenWidth) {
+				culledSprites += chunk.getSpriteCount();
+				continue;
+			}
+
+			int drawn = chunk.draw(g, drawScrollX, screenWidth);
+
+			submittedSprites += drawn;
+			culledSprites += chunk.getSpriteCount() - drawn;
+		}
+
+		for(int i = 0; i < enemies.size(); i++) {
+			MovingObject enemy = enemies.get(i);
+
+			if(enemy.isOnScreen(drawScrollX, screenWidth, alpha)) {
+				enemy.draw(g, drawScrollX, alpha);
+				submittedSprites++;
+			} else {
+				culledSprites++;
+			}
+		}
+	}
+
+	/**
+	  * @return returns the number of sprites drawn by the last {@link Map#drawWorld(Graphics, float)}.
+	  */
+	public int getSubmittedSprites() {
+		return submittedSprites;
+	}
+
+	/**
+	  * @return returns the number of sprites culled by the last {@link Map#drawWorld(Graphics, float)}
+	  * because they were off screen.
+	  */
+	public int getCulledSprites() {
+		return culledSprites;
+	}
+
+	/**
+	  * Stores the scroll and enemy positions at the start of a tick so {@link Map#drawWorld(Graphics, float)}
+	  * can draw between ticks.
+	  */
+	public void savePreviousState() {
+		previousScrollX = scrollX;
+
+		for(int i = 0; i < enemies.size(); i++) {
+			enemies.get(i).savePreviousPosition();
+		}
+	}
+
+	/**
+	  * Tests if two rectangles intersect. Behaves the same as {@link RectF#intersects(RectF, RectF)} but takes
+	  * the edges of the rectangles, so a rectangle can be moved without creating a new one.
+	  */
+	private static boolean intersects(float left1, float top1, float right1, float bottom1,
+			float left2, float top2, float right2, float bottom2) {
+		return left1 < right2 && left2 < right1 && top1 < bottom2 && top2 < bottom1;
+	}
+
+	/**
+	  * Tests if the body set by {@link Map#setBody(MovingObject)} intersects a tile.
+	  */
+	private boolean bodyIntersects(RectF tile) {
+		return intersects(bodyLeft, bodyTop, bodyRight, bodyBottom, tile.left, tile.top, tile.right, tile.bottom);
+	}
+
+	/**
+	  * Calculates the overlap between two objects, on the y plane, as a float.
+	  * This is used when a player collides with a wall to make sure they do not
+	  * go through the wall/floor.It provides a float that can be added to a players
+	  * y position so they are no longer intersecting the object.
+	  * 
+	  * @param top1 top of object one.
+	  * @param bottom1 bottom of object one.
+	  * @param two bounding box of object two.	 	
+	  *   
+	  */
+	private float calculateYOverlap(float top1, float bottom1, RectF two) {
+		return Math.max(0, Math.min(bottom1, two.bottom) - Math.max(top1, two.top));
+	}
+
+	/**
+	  * Returns the centre of the overlap between two objects on one plane. The floor checks compare it with
+	  * the centre of the object to tell which side of the object a wall rectangle is on.
+	  */
+	private static float overlapCenter(float min1, float max1, float min2, float max2) {
+		return (Math.max(min1, min2) + Math.min(max1, max2)) * 0.5f;
+	}
+
+	/**
+	  * Calculates the overlap between two objects, on the x plane, as a float.
+	  * See {@link Map#calculateYOverlap(float, float, RectF)} for more details.	
+	  *   
+	  */
+	private float calculateXOverlap(float left1, float right1, RectF two) {
+		return Math.max(0, Math.min(right1, two.right) - Math.max(left1, two.left));
+	}
+	
+	/**
+	  * Finds the cells overlapped by the body set by {@link Map#setBody(MovingObject)} and stores them in
+	  * {@link Map#firstColumn}, {@link Map#lastColumn}, {@link Map#firstRow} and {@link Map#lastRow}.
+	  * The collision checks then only iterate these cells rather than every tile in the world,
+	  * so the cost depends on the size of the object and not on the number of tiles in the world.
+	  */
+	private void findCells() {
+		findCells(bodyLeft, bodyTop, bodyRight, bodyBottom);
+	}
+
+	private void findCells(float left, float top, float right, float bottom) {
+		firstColumn = (int) Math.floor(left / tileWidth);
+		lastColumn = (int) Math.floor(right / tileWidth);
+
+		firstRow = Math.max(0, (int) Math.floor(top / tileHeight));
+		lastRow = Math.min(MAPHEIGHT - 1, (int) Math.floor(bottom / tileHeight));
+	}
+
+	/**
+	  * Finds the cells overlapped by the body anywhere along its movement this tick, i.e. the cells
+	  * covered by the body at its start position, its desired position and everything in between.
+	  */
+	private void findSweptCells() {
+		findCells(Math.min(bodyLeft, bodyLeft - sweepX), Math.min(bodyTop, bodyTop - sweepY),
+				Math.max(bodyRight, bodyRight - sweepX), Math.max(bodyBottom, bodyBottom - sweepY));
+	}
+
+	/**
+	  * Stores in {@link Map#sweepX} and {@link Map#sweepY} how far an object moves through the world this tick, 
+	  * from its position to its desired position. For the {@link Player} this includes the scroll since
+	  * {@link Map#savePreviousState()}, as the world moving left is the same as the player moving right.
+	  */
+	private void setSweep(MovingObject object) {
+		sweepX = (object.getDesiredX() + getScrollOffset(object)) - (object.getX() + getPreviousScrollOffset(object));
+		sweepY = object.getDesiredY() - object.getY();
+	}
+
+	/**
+	  * Returns the number of steps the movement set by {@link Map#setSweep(MovingObject)} has to be split into
+	  * so that no step moves more than half a tile. Overlaps are resolved towards the nearer side of a tile, so
+	  * a larger step can push an object out of the wrong side of a wall or carry it straight through.
+	  * Most ticks move less than half a tile and return 1.
+	  */
+	private int getSubsteps() {
+		float steps = Math.max(Math.abs(sweepX) / (tileWidth * 0.5f), Math.abs(sweepY) / (tileHeight * 0.5f));
+
+		return Math.max(1, Math.min(MAXSUBSTEPS, (int) Math.ceil(steps)));
+	}
+
+	/**
+	  * Sweeps a box along a movement and returns when it first touches a tile, as a fraction of the movement.
+	  * The box is swept along each axis separately: it only touches the tile while the times it overlaps the 
+	  * tile on the x and y plane overlap each other.
+	  * 
+	  * @return returns the time of impact from 0 to 1, where 0 means the box already overlaps the tile,
+	  * or 1 if the box does not touch the tile during the movement.
+	  */
+	private static float timeOfImpact(float left, float top, float right, float bottom, 
+			float moveX, float moveY, RectF tile) {
+		float entryX, exitX, entryY, exitY;
+
+		if(moveX > 0) {
+			entryX = (tile.left - right) / moveX;
+			exitX = (tile.right - left) / moveX;
+		} else if(moveX < 0) {
+			entryX = (tile.right - left) / moveX;
+			exitX = (tile.left - right) / moveX;
+		} else if(left < tile.right && tile.left < right) {
+			entryX = Float.NEGATIVE_INFINITY;
+			exitX = Float.POSITIVE_INFINITY;
+		} else {
+			return 1;
+		}
+
+		if(moveY > 0) {
+			entryY = (tile.top - bottom) / moveY;
+			exitY = (tile.bottom - top) / moveY;
+		} else if(moveY < 0) {
+			entryY = (tile.bottom - top) / moveY;
+			exitY = (tile.top - bottom) / moveY;
+		} else if(top < tile.bottom && tile.top < bottom) {
+			entryY = Float.NEGATIVE_INFINITY;
+			exitY = Float.POSITIVE_INFINITY;
+		} else {
+			return 1;
+		}
+
+		float entry = Math.max(entryX, entryY);
+		float exit = Math.min(exitX, exitY);
+
+		if(entry >= exit || entry >= 1 || exit <= 0) {
+			return 1;
+		}
+
+		return Math.max(0, entry);
+	}
+
+	/**
+	  * Sweeps the body from its start position to the body set by {@link Map#setBody(MovingObject)}, 
+	  * along the movement set by {@link Map#setSweep(MovingObject)}. See {@link Map#timeOfImpact(float, float, float, float, float, float, RectF)}.
+	  */
+	private float bodyTimeOfImpact(RectF tile) {
+		return timeOfImpact(bodyLeft - sweepX, bodyTop - sweepY, bodyRight - sweepX, bodyBottom - sweepY, 
+				sweepX, sweepY, tile);
+	}
+
+	/**
+	  * Returns when the body first touches a wall during its movement this tick, as a fraction of the movement,
+	  * or 1 if it does not touch a wall. The body is swept against the merged wall rectangles, which gives the
+	  * same time as sweeping it against each of their tiles.
+	  */
+	private float findWallTimeOfImpact() {
+		float first = 1;
+
+		findSweptCells();
+		findWallRects();
+
+		for(int i = 0; i < wallRectCount; i++) {
+			first = Math.min(first, bodyTimeOfImpact(wallRects[i]));
+		}
+
+		return first;
+	}
+	
+	/**
+	  * Returns the amount to add to an objects x position to place it in the world. Tiles and enemies are 
+	  * placed in the world and never move with the screen, whereas the {@link Player} stays on screen, so
+	  * {@link Map#scrollX} is added to the players position.
+	  */
+	private float getScrollOffset(MovingObject object) {
+		if(object instanceof Player) {
+			return scrollX;
+		}
+
+		return 0;
+	}
+
+	/**
+	  * Same as {@link Map#getScrollOffset(MovingObject)} but for where the world was at the start of the tick.
+	  */
+	private float getPreviousScrollOffset(MovingObject object) {
+		if(object instanceof Player) {
+			return previousScrollX;
+		}
+
+		return 0;
+	}
+	
+	/**
+	  * Copies the bounding box of an object, in world coordinates, into {@link Map#bodyLeft}, {@link Map#bodyTop},
+	  * {@link Map#bodyRight} and {@link Map#bodyBottom}. The collision checks call this again whenever they
+	  * move the object so the body is always up to date, without creating a new rectangle.
+	  */
+	private void setBody(MovingObject object) {
+		RectF box = object.getBoundingBox();
+		float offset = getScrollOffset(object);
+
+		bodyLeft = box.left + offset;
+		bodyTop = box.top;
+		bodyRight = box.right + offset;
+		bodyBottom = box.bottom;
+	}
+	
+	/**
+	  * Removes a tile from the {@link Chunk} holding it so it is not drawn or collided with again.
+	  */
+	private void removeTile(Tile tile) {
+		Chunk chunk = getChunk(tile.getColumn());
+
+		if(chunk != null) {
+			chunk.removeTile(tile);
+		}
+	}
+	
+	/**
+	  * Checks players collision with reverse gravity tiles. Iterates through the cells of
+	  *  {@link Map#chunks} overlapped by the player and checks tile id, if the id = {@link TileID#GRAVITY}
+	  *  and the tile is on screen, then the intersection is tested. If the objects intersect then
+	  *  invoke {@link Settings#reverseGravity()}, remove tile from its {@link Chunk} so it is
+	  *  not updated or drawn, and return. Reverse gravity is checked in the {@link Player#update(float)}
+	  *  before a force is applied.	
+	  *   
+	  */
+	public void checkPlayerCollisionWithReverseGravity(MovingObject player) {
+		setBody(player);
+		findCells();
+
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				Tile tile = getTile(column, row);
+
+				if(tile != null && tile.isOnScreen(scrollX) && tile.getID() == TileID.GRAVITY) {
+					if(bodyIntersects(tile.getBoundingBox())){
+						Settings.getInstance().reverseGravity();
+						removeTile(tile);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	  * Checks players collision with floor tiles when gravity is reversed. Iterates through the merged wall
+	  *  rectangles overlapping the cells of {@link Map#chunks} overlapped by the object ({@link Map#findWallRects()}),
+	  *  and the intersection is tested once per rectangle. If the objects intersect, the side the rectangle is on
+	  *  is decided from the centre of the overlap, so a long floor or a tall wall pushes the object by its whole
+	  *  overlap at once rather than by a tile at a time:
+	  *  
+	  *  <pre>
+	  *  
+	  *  if(tile below player) {
+	  *  	check intersection and move player up until not intersecting; 
+	  *  	(uses {@link Map#calculateYOverlap(float, float, RectF)} and {@link Player#setDesiredPosition(float, float)})
+	  *  	Set y velocity to zero (prevents gravity from pushing player through floor)
+	  *  	Set {@link Player#isOnGround()} to true.
+	  *  } else if(tile to right of player) {
+	  *  	check intersection and move player up until not intersecting; 
+	  *  	(uses {@link Map#calculateXOverlap(float, float, RectF)} and {@link Player#setDesiredPosition(float, float)})
+	  *  } else if(tile above player) {
+	  *  	check intersection and move player up until not intersecting; 
+	  *  	(uses {@link Map#calculateYOverlap(float, float, RectF)} and {@link Player#setDesiredPosition(float, float)})
+	  *  }
+	  *  
+	  *  </pre>
+	  *   
+	  *   Collisions with tiles to the right of the player are not tested because the world is moving to the left
+	  *   (giving the impression of the player moving right) and there is no capability for the player to move left.
+	  */
+	private void checkFloorCollisionReversedGravity(MovingObject object) {
+		setBody(object);
+		findCells();
+		findWallRects();
+
+		for(int i = 0; i < wallRectCount; i++) {
+			RectF rect = wallRects[i];
+
+			if(bodyIntersects(rect)){
+				float tileX = overlapCenter(bodyLeft, bodyRight, rect.left, rect.right);
+				float tileY = overlapCenter(bodyTop, bodyBottom, rect.top, rect.bottom);
+
+				float playerX = (bodyLeft + bodyRight) * 0.5f;
+				float playerY = (bodyTop + bodyBottom) * 0.5f;
+
+				if(tileY < playerY) { //below
+
+					object.setDesiredPosition(object.getDesiredX(), 
+							object.getDesiredY() + calculateYOverlap(bodyTop, bodyBottom, rect));
+
+					object.setVelocity(object.getVelocityX(), 0f);
+					object.setOnGround(true);
+
+				}  else if (tileX > playerX) { //right
+					object.setDesiredPosition(object.getDesiredX() + calculateXOverlap(bodyLeft, bodyRight, rect), 
+							object.getDesiredY());
+
+
+				} else if (tileY > playerY) { //above
+					object.setDesiredPosition(object.getDesiredX(), 
+							object.getDesiredY() - calculateYOverlap(bodyTop, bodyBottom, rect));
+
+				}
+
+				setBody(object);
+			}
+		} 
+	}
+
+	/**
+	  * Handles collisions with wall tiles in normal gravity. See {@link Map#checkFloorCollisionReversedGravity(MovingObject)}
+	  * for more information.	 	
+	  *   
+	  */
+	private void checkFloorCollisionNormalGravity(MovingObject object) {
+		setBody(object);
+		findCells();
+		findWallRects();
+
+		for(int i = 0; i < wallRectCount; i++) {
+			RectF rect = wallRects[i];
+
+			if(bodyIntersects(rect)){
+				float tileX = overlapCenter(bodyLeft, bodyRight, rect.left, rect.right);
+				float tileY = overlapCenter(bodyTop, bodyBottom, rect.top, rect.bottom);
+
+				float playerX = (bodyLeft + bodyRight) * 0.5f;
+				float playerY = (bodyTop + bodyBottom) * 0.5f;
+
+				if(tileY > playerY) { 
+
+					object.setDesiredPosition(object.getDesiredX(), 
+							object.getDesiredY() - calculateYOverlap(bodyTop, bodyBottom, rect));
+
+					object.setVelocity(object.getVelocityX(), 0f);
+					object.setOnGround(true);
+
+				} else if (tileX > playerX) { //right
+					object.setDesiredPosition(object.getDesiredX() + calculateXOverlap(bodyLeft, bodyRight, rect), 
+							object.getDesiredY());
+
+				} else if (tileY < playerY) { 
+					object.setDesiredPosition(object.getDesiredX(), 
+							object.getDesiredY() + calculateYOverlap(bodyTop, bodyBottom, rect));
+
+				}
+
+				setBody(object);
+			}
+		} 
+	}
+	
+	/** 	
+	  *  Invoked by {@link GamePlayScreen#update(float)}, calls {@link Map#checkFloorCollisionNormalGravity(MovingObject)}
+	  *  or {@link Map#checkFloorCollisionReversedGravity(MovingObject)} based on {@link Settings#isGravityReversed()}. 
+	  *  
+	  *  The floor checks only test where the object ends up, so an object that moves further than half a tile
+	  *  in a tick could pass through a wall. When {@link Map#getSubsteps()} says the movement is that long, the
+	  *  body is swept along it first to find when it hits a wall:
+	  *  
+	  *  <pre>
+	  *  if(movement needs more than one step) {
+	  *  	find time of impact with walls; ({@link Map#findWallTimeOfImpact()})
+	  *  	if(a wall is hit) {
+	  *  		move object to the first step after the time of impact;
+	  *  		check floor collision;
+	  *  		for(each step left) {
+	  *  			move object one step further and check floor collision;
+	  *  		}
+	  *  		return;
+	  *  	}
+	  *  }
+	  *  check floor collision at desired position;
+	  *  </pre>
+	  *  
+	  *  So the extra steps are only paid for by fast objects that actually hit a wall.
+	  */
+	public void checkObjectCollisionWithFloor(MovingObject object) {
+
+		object.setOnGround(false);
+
+		setBody(object);
+		setSweep(object);
+
+		int substeps = getSubsteps();
+		float timeOfImpact = substeps > 1 ? findWallTimeOfImpact() : 1;
+
+		if(timeOfImpact < 1) {
+			float stepX = sweepX / substeps;
+			float stepY = sweepY / substeps;
+			int step = Math.min(substeps, (int) (timeOfImpact * substeps) + 1);
+
+			object.setDesiredPosition(object.getDesiredX() - sweepX + stepX * step, 
+					object.getDesiredY() - sweepY + stepY * step);
+			checkFloorCollision(object);
+
+			for(step++; step <= substeps; step++) {
+				object.setDesiredPosition(object.getDesiredX() + stepX, object.getDesiredY() + stepY);
+				checkFloorCollision(object);
+			}
+		} else {
+			checkFloorCollision(object);
+		}
+
+		object.setPositionToDesired();
+
+	}
+
+	private void checkFloorCollision(MovingObject object) {
+		if(!Settings.getInstance().isGravityReversed()) {
+			checkFloorCollisionNormalGravity(object);
+		} else {
+			checkFloorCollisionReversedGravity(object);
+		}
+	}
+
+	/**
+	  * Checks players collision with hazards. Iterates through the cells of
+	  *  {@link Map#chunks} overlapped by the player and checks tile id, if the id = {@link TileID#HAZARD}
+	  *  and the tile is on screen, then the intersection is tested. If the objects intersect then
+	  *  invoke {@link Player#setAlive(boolean)} is set to false.
+	  *  
+	  *  When the player moves more than half a tile in a tick the cells along its movement are checked
+	  *  and the player is swept against each hazard, so it cannot pass through a hazard between ticks.
+	  *   
+	  */
+	public Boolean checkPlayerCollisionWithHazard(MovingObject player) {
+		setBody(player);
+		setSweep(player);
+
+		boolean swept = getSubsteps() > 1;
+
+		if(swept) {
+			findSweptCells();
+		} else {
+			findCells();
+		}
+
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				Tile tile = getTile(column, row);
+
+				if(tile != null && tile.isOnScreen(scrollX) && tile.getID() == TileID.HAZARD){
+					RectF tileBox = tile.getBoundingBox();
+
+					if(bodyIntersects(tileBox) || (swept && bodyTimeOfImpact(tileBox) < 1)){
+						player.setAlive(false);
+
+						if(Settings.getInstance().isSoundEnabled()) {
+							Assets.getInstance().getHurt().play(2);
+						}
+
+						player.setPositionToDesired();
+
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+
+	}
+
+	/**
+	  * Moves the world to the left based on the constant Movement_Amount * deltaTime.
+	  * Rather than move every tile and enemy, only {@link Map#scrollX} is increased. Tiles and enemies
+	  * keep their world position and the scroll is subtracted when they are drawn or tested for collisions,
+	  * so scrolling costs the same however many tiles are loaded and sub-pixel movement is not lost.
+	  * 
+	  * Calls {@link Map#updateChunks()} to retire chunks that are off screen and load new ones, then removes
+	  * enemies that are off screen from {@link Map#enemies} and {@link Map#broadphase} and returns them 
+	  * to {@link Map#enemyPool}.
+	  */
+	public void updateWorldLocation(float deltaTime, Score score) {	
+		float movementAmount = WORLDMOVEMENT * deltaTime;
+
+		scrollX += movementAmount;
+
+		updateChunks();
+
+		for(int i = enemies.size() - 1; i >= 0; i--) {
+			if (enemies.get(i).getX() < scrollX) {
+				MovingObject enemy = enemies.remove(i);
+				broadphase.remove(enemy);
+				enemyPool.free(enemy);
+			}
+		}
+
+		if(movementAmount > 1) {
+			score.increaseScore(1);
+		}
+	}
+
+	/**
+	  * Checks players collision with collectible tiles. Iterates through the cells of
+	  *  {@link Map#chunks} overlapped by the player and checks tile id, if the id = {@link TileID#COLLECTIBLE}
+	  *  and the tile is on screen, then the intersection is tested. If the objects intersect then
+	  *  the tile is removed from its {@link Chunk} so it is
+	  *  not updated or drawn, and players score is increased by 100. 
+	  *   
+	  */
+	public void checkCollectibleCollision(Score score, MovingObject player) {
+		setBody(player);
+		findCells();
+
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				Tile tile = getTile(column, row);
+
+				if(tile != null && tile.isOnScreen(scrollX) && tile.getID() == TileID.COLLECTIBLE) {
+					if(bodyIntersects(tile.getBoundingBox())){
+						removeTile(tile);
+						score.increaseScore(100);
+
+						if(Settings.getInstance().isSoundEnabled())
+							Assets.getInstance().getCollectibleSound().play(1);
+
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	 /**
+	  * Adds an enemy at a world position, as if a chunk had placed it there.
+	  *
+	  * For the benchmarks only, which crowd the world with more enemies than the chunks place. The game only
+	  * gets its enemies from {@link Chunk#load(ChunkData, int, ArrayList)}.
+	  */
+	void spawnEnemy(float x, float y) {
+		MovingObject enemy = enemyPool.newObject();
+		enemy.reset(Assets.getInstance().getEnemy(), Assets.getInstance().getEnemyReversed(), x, y);
+		enemy.setJumping(true);
+		enemies.add(enemy);
+		broadphase.add(enemy);
+	}
+
+	 /**
+	  * For the benchmarks only, which place their extra enemies relative to the screen.
+	  */
+	float getScrollX() {
+		return scrollX;
+	}
+
+	public ArrayList<MovingObject> getEnemies() {
+		return enemies;
+	}
+
+	 /**
+	  * Stops the {@link ChunkGenerator} thread and releases the chunks' offscreen layers. Called when the
+	  * screen using the map is disposed.
+	  */
+	public void dispose() {
+		chunkGenerator.stop();
+
+		for(int i = 0; i < chunkCapacity; i++) {
+			chunks[i].dispose();
+		}
+	}
+
+	
+
+	
+}
@@ -0,0 +1,368 @@
+package com.cmt3319.game;
+
+import com.cmt3319.game.Tile.TileID;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.math.RectF;
+
+/**
+ * Represents the player and enemies in the game. Provides physics based movement 
+ * (see {@link MovingObject#update(float)} and a
+ * draw method.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class MovingObject {
+	private final float MAX_GRAVITY = 400, MAX_JUMP = 300, MAX_JUMP_CUT_OFF = 120f, MAX_VELOCITY = 450;
+
+	
+	protected Pixmap image;
+	private Pixmap reversedImage;
+	
+	protected float x, y, desiredX, desiredY;
+	
+	private float previousX, previousY;
+
+	private float velocityX, velocityY;
+	
+	private final RectF bounds = new RectF();
+		
+	private boolean isOnGround, isMovingForward, isJumping, isAlive;
+	
+	public float distanceMoved;
+	
+	private float gravity, jump, jumpCutOff;
+	
+	public MovingObject(float x, float y) {
+		isAlive = true;
+		
+		
+		distanceMoved = 0f;
+		
+		isOnGround = false;
+		isMovingForward = true;
+		isJumping= false;
+		
+
+		this.x = x;
+		this.y = y;
+		previousX = x;
+		previousY = y;
+		velocityX = velocityY = 0;
+		desiredX = desiredY = 0;
+
+	}
+	
+	public MovingObject(Pixmap image, Pixmap reversedImage, float x, float y) {
+		reset(image, reversedImage, x, y);
+	}
+	
+	 /**
+	  * Returns the object to the state it was in when first constructed, at a new position. Enemies are
+	  * kept in a {@link com.cmt3319.interfaces.Pool} by {@link Map} and reset when they are reused, so a
+	  * reused enemy is the same as a new one.
+	  */
+	public void reset(Pixmap image, Pixmap reversedImage, float x, float y) {
+		isAlive = true;
+		
+		distanceMoved = 0f;
+		
+		isOnGround = false;
+		isMovingForward = true;
+		isJumping= false;
+		
+		this.image = image;
+		this.reversedImage = reversedImage;
+		
+		this.x = x;
+		this.y = y;
+		previousX = x;
+		previousY = y;
+		velocityX = velocityY = 0;
+		desiredX = desiredY = 0;
+		
+		updateBounds();
+
+	}
+	
+	 /**
+     * Updates position of object based on gravity and jumpforce.{@link MovingObject#checkGravity()}
+     * is called first. After which:
+     * 
+     * <pre>
+     * Add gravity multiplied by deltaTime to velocity;
+     * 
+     * if(player is jumping and is on ground) {
+     * 		add jump force to velocity;
+     * } else {
+     * 		if(gravity is not reversed) {
+     * 			if(player is not jumping and velocity.y > jumpcutoff) {
+     * 				set velocity y value to equal jumpCutOff;
+     * 			} 
+     * 		} else {
+     * 			if(player is not jumping and velocity.y < jumpCutOff) {
+     * 				set velocity y value to equal jumpCutOff;
+     * 			}
+     * 		}
+     * }
+     * 
+     * Truncate velocity to minimum/maximum;
+     * 
+     * Multiple velocity by delta time and add to players desired position;
+     * </pre>
+     * 
+     * A desired position is used because if the player is intersecting with a wall the players desired position
+     * is fixed by {@link Map#checkObjectCollisionWithFloor(MovingObject)} before setting the payers position
+     * to equal desired position.
+     * 
+     * Position, desired position and velocity are held as separate x and y floats and updated in place,
+     * so stepping the player and enemies does not create any objects.
+     */
+	public void update(float deltaTime) {
+
+		checkGravity();
+		
+		velocityY += gravity * deltaTime;
+
+	    if(isJumping && isOnGround) {
+	    	velocityY += jump;
+	  
+	    } else {
+	    	if(!Settings.getInstance().isGravityReversed()) {
+		    	if (!isJumping && velocityY > jumpCutOff) {	    
+		    		velocityY = jumpCutOff;
+		    	}
+	    	} else {
+	    		if (!isJumping && velocityY < jumpCutOff) {	    
+		    		velocityY = jumpCutOff;
+	    		}
+	    	}
+	    }
+	    
+	    velocityX = 0;
+	    velocityY = clamp(velocityY, -MAX_VELOCITY, MAX_VELOCITY);
+	    		
+	    desiredX = x;
+	    desiredY = y - velocityY * deltaTime;
+	    
+	    updateBounds();
+
+	}
+	
+	public void draw(Graphics g) {
+		draw(g, 0);
+	}
+	
+	 /**
+	  * Draws the object with its x position moved left by scrollX. Used by {@link Map} to draw
+	  * enemies, whose positions are in the world rather than on screen.
+	  */
+	public void draw(Graphics g, float scrollX) {
+		draw(g, scrollX, 1);
+	}
+	
+	 /**
+	  * Draws the object between its previous and current position. alpha is the fraction of a tick
+	  * passed to {@link com.cmt3319.interfaces.Screen#present(float, float)}, where 0 draws the object where it was 
+	  * when {@link MovingObject#savePreviousPosition()} was last called and 1 draws it where it is now.
+	  */
+	public void draw(Graphics g, float scrollX, float alpha) {
+		if(Settings.getInstance().isGravityReversed()) {
+			g.drawPixmap(reversedImage, getInterpolatedX(alpha) - scrollX, getInterpolatedY(alpha));
+		} else {
+			g.drawPixmap(image, getInterpolatedX(alpha) - scrollX, getInterpolatedY(alpha));
+		}
+		
+	}
+	
+	 /**
+	  * Tests if any of the object would be drawn on screen by {@link MovingObject#draw(Graphics, float, float)}
+	  * with the same scrollX and alpha.
+	  */
+	public boolean isOnScreen(float scrollX, float screenWidth, float alpha) {
+		float left = getInterpolatedX(alpha) - scrollX;
+
+		return left < screenWidth && left + image.getWidth() > 0;
+	}
+	
+	 /**
+	  * Stores the current position so it can be drawn from by {@link MovingObject#draw(Graphics, float, float)}.
+	  * Called once at the start of each tick.
+	  */
+	public void savePreviousPosition() {
+		previousX = x;
+		previousY = y;
+	}
+	
+	protected float getInterpolatedX(float alpha) {
+		return previousX + (x - previousX) * alpha;
+	}
+	
+	protected float getInterpolatedY(float alpha) {
+		return previousY + (y - previousY) * alpha;
+	}
+	
+	private float clamp(float val, float min, float max) {
+	    return Math.max(min, Math.min(max, val));
+	}
+	
+	 /**
+	  * Moves {@link MovingObject#bounds} to the desired position. Called whenever the desired position
+	  * changes so {@link MovingObject#getBoundingBox()} does not need to create a new rectangle.
+	  */
+	protected void updateBounds() {
+		bounds.set(desiredX, desiredY, desiredX + getBoundsWidth(), desiredY + getBoundsHeight());
+	}
+	
+	protected float getBoundsWidth() {
+		return image.getWidth();
+	}
+	
+	protected float getBoundsHeight() {
+		return image.getHeight();
+	}
+	
+	 /**
+	  * @return returns the bounds of the object at its desired position. The same instance is returned
+	  * on every call and is updated when the desired position changes, so it must not be modified by the caller.
+	  */
+	public RectF getBoundingBox() {
+		return bounds;
+	}
+
+	public float getDesiredX() {
+		return desiredX;
+	}
+	
+	public float getDesiredY() {
+		return desiredY;
+	}
+
+	public void setOnGround(boolean ground) {
+		isOnGround = ground;
+	}
+	
+	public boolean isOnGround() {
+		return isOnGround;
+	}
+	
+	public void setDesiredPosition(float x, float y) {
+		desiredX = x;
+		desiredY = y;
+		updateBounds();
+	}
+	
+	public void setPositionToDesired(float screenWidth) {
+		if(desiredX <  screenWidth * 0.7f) {
+			distanceMoved += desiredX - (screenWidth * 0.7f);
+			setDesiredPosition(screenWidth * 0.7f, desiredY);
+		}
+		
+		setPositionToDesired();
+	}
+	
+	public void setPositionToDesired() {
+		x = desiredX;
+		y = desiredY;
+	}
+	
+	/**
+	  * Invoked by {@link MovingObject#update(float)} before force is applied. Checks if
+	  * gravity is reversed in {@link Settings#isGravityReversed()}:
+	  * 
+	  * <pre>
+	  * if(gravity is not reversed) {
+	  * 	gravity force = -Max_gravity constant;
+	  * 	jump = minus MAX_JUMP constant;
+			jumpCutOff = minus MAX_JUMP_CUT_OFF constant;
+	  * } else {
+	  * 	gravity = MAX_GRAVITY constant;
+			jump =  minus MAX_JUMP;
+			jumpCutOff = minus MAX_JUMP_CUT_OFF;
+	  * }
+	  * 
+	  * </pre>	 
+	  *   
+	  */
+	public void checkGravity() {
+		if(!Settings.getInstance().isGravityReversed()) {
+			//set to normal
+			gravity = -MAX_GRAVITY;
+			jump = MAX_JUMP;
+			jumpCutOff = MAX_JUMP_CUT_OFF;
+		} else {
+			//set to reversed
+			gravity = MAX_GRAVITY;
+			jump = -MAX_JUMP;
+			jumpCutOff = -MAX_JUMP_CUT_OFF;
+		}
+		
+		
+	}
+
+	public float getDistanceMoved(){
+		return distanceMoved;
+	}
+	
+	public void setDistanceMoved(float distance){
+		distanceMoved = distance;
+	}
+	
+	public void setVelocity(float x, float y) {
+		velocityX = x;
+		velocityY = y;
+	}
+	
+	public float getVelocityX() {
+		return velocityX;
+	}
+	
+	public float getVelocityY() {
+		return velocityY;
+	}
+	
+	public void setJumping(boolean jumping) {
+		isJumping = jumping;
+	}
+	
+	public void setMoving(boolean moving) {
+		isMovingForward = moving;
+	}
+
+	public float getX() {
+		return x;
+	}
+	
+	public float getY() {
+		return y;
+	}
+	
+	public boolean isMoving() {
+		return isMovingForward;
+	}
+
+
+	public void decreaseX(float amount) {
+		x -= amount;
+	}
+
+	public void increaseX(float amount) {
+		x += amount;
+		
+	}
+	
+	public void setAlive(boolean alive) {
+		isAlive = alive;
+	}
+	
+	public boolean isAlive() {
+		return isAlive;
+	}
+	
+	public boolean isJumping() {
+		return isJumping;
+	}
+	
+}
@@ -1,14 +1,12 @@
 package com.cmt3319.game;
 
-import android.graphics.RectF;
-
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Pixmap;
 
 /**
  * Extends {@link MovingObject} and introduces animation. Switches between a number of images
- * depending on if the payer is moving, jumping, dead, or gravity is reversed. {@link Player#draw(Graphics)}
- * animates character before calling {@link MovingObject#draw(Graphics)}.
+ * depending on if the payer is moving, jumping, dead, or gravity is reversed. {@link Player#draw(Graphics, float, float)}
+ * animates character in place of {@link MovingObject#draw(Graphics, float, float)}.
  *
  * @author Robert Wells
  * @version 1.0
@@ -41,10 +39,13 @@ public class Player extends MovingObject{
 	
 	/**
 	  * Alternates between images based on an Animation variable to give the impression that the character
-	  * is moving. Changes image if player jumps, is dead, or gravity is reversed. 
+	  * is moving. Changes image if player jumps, is dead, or gravity is reversed. The player is drawn
+	  * between its previous and current position, see {@link MovingObject#draw(Graphics, float, float)}.
 	  *   
 	  */
-	public void draw(Graphics g) {
+	public void draw(Graphics g, float scrollX, float alpha) {
+		float drawX = getInterpolatedX(alpha) - scrollX;
+		float drawY = getInterpolatedY(alpha);
 
 		if(Settings.getInstance().isGravityReversed()) {
 			image = Assets.getInstance().getPlayerReversed();
@@ -55,49 +56,50 @@ public class Player extends MovingObject{
 		}
 		
 		if(!isAlive()) {
-			g.drawPixmap(Assets.getInstance().getPlayerDead(), position.x, position.y);
+			g.drawPixmap(Assets.getInstance().getPlayerDead(), drawX, drawY);
 		} else if(!isOnGround()) {
-			g.drawPixmap(jumpImage, position.x, position.y);
+			g.drawPixmap(jumpImage, drawX, drawY);
 		} else if(isMoving()){
 			if (changeImage > ANIMATIONSPEED * 3) {
-				g.drawPixmap(image, (int) position.x, (int)position.y, 78, 0, PLAYERWIDTH, image.getHeight());
+				g.drawPixmap(image, (int) drawX, (int)drawY, 78, 0, PLAYERWIDTH, image.getHeight());
 				if(changeImage > ANIMATIONSPEED * 4) {
 					changeImage = 0f;
 				}
 			} else if (changeImage > ANIMATIONSPEED * 2) {
-				g.drawPixmap(image, (int) position.x, (int)position.y, 26, 0, PLAYERWIDTH, image.getHeight());
+				g.drawPixmap(image, (int) drawX, (int)drawY, 26, 0, PLAYERWIDTH, image.getHeight());
 				
 			} else if(changeImage > ANIMATIONSPEED) {
-				g.drawPixmap(image, (int) position.x, (int)position.y, 78, 0, PLAYERWIDTH, image.getHeight());
+				g.drawPixmap(image, (int) drawX, (int)drawY, 78, 0, PLAYERWIDTH, image.getHeight());
 	
 			}  else {
-				g.drawPixmap(image, (int)position.x, (int)position.y, 0, 0, PLAYERWIDTH, image.getHeight());
+				g.drawPixmap(image, (int)drawX, (int)drawY, 0, 0, PLAYERWIDTH, image.getHeight());
 			}
 		} else {
-			g.drawPixmap(image, (int) position.x, (int)position.y, 78, 0, PLAYERWIDTH, image.getHeight());
+			g.drawPixmap(image, (int) drawX, (int)drawY, 78, 0, PLAYERWIDTH, image.getHeight());
 		}
 		
 	
 	
 	}
 	
-	public RectF getBoundingBox() {		
-		return new RectF(desiredPosition.x, 
-				desiredPosition.y, desiredPosition.x + PLAYERWIDTH, 
-				desiredPosition.y + image.getHeight());
-
+	protected float getBoundsWidth() {
+		return PLAYERWIDTH;
+	}
+	
+	protected float getBoundsHeight() {
+		return Assets.getInstance().getPlayer().getHeight();
 	}
 	
 
 	public boolean isOnScreen(float screenWidth) {
-		return position.x < screenWidth * 1.05f;
+		return x < screenWidth * 1.05f;
 	}
 
 	public void setPositionX(int x) {
-		position.x = x;
+		this.x = x;
 	}
 	
 	public float getPositionX() {
-		return position.x;
+		return x;
 	}
 }
@@ -24,6 +24,10 @@ public class Score {
 		score += amount;
 	}
 	
+	public int getScore() {
+		return score;
+	}
+	
 	public void present(Graphics g) {
 		
 		String stScore = ""+ score;
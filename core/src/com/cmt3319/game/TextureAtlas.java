@@ -0,0 +1,141 @@
+package com.cmt3319.game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.cmt3319.interfaces.FileIO;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.interfaces.PixmapRegion;
+
+/**
+ * The sprites used by the game, packed into a few sheets by the AtlasPacker tool rather than loaded as one
+ * {@link Pixmap} each. Loads the sheets and the region table written with them, and hands out a
+ * {@link PixmapRegion} for each sprite by the name of the image it was packed from, e.g. "wall.png".
+ * A region can be drawn wherever a {@link Pixmap} can, so the rest of the game does not know it is drawing
+ * from a sheet.
+ *
+ * The region table is a text file in the assets folder:
+ *
+ * <pre>
+ * ; comment
+ * sheet name format
+ * name x y width height
+ * ...
+ * </pre>
+ *
+ * Fewer, larger bitmaps mean less overhead per bitmap and fewer changes of source bitmap while drawing, and
+ * {@link TextureAtlas#getMemoryUsage()} gives the memory used by all of the sprites in one place.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class TextureAtlas {
+
+	private final ArrayList<Pixmap> sheets = new ArrayList<Pixmap>();
+
+	private final HashMap<String, PixmapRegion> regions = new HashMap<String, PixmapRegion>();
+
+	 /**
+	  * Loads a region table and its sheets from the assets folder.
+	  *
+	  * @throws RuntimeException if the table cannot be read or is not valid, the game cannot run without it.
+	  */
+	public static TextureAtlas load(Graphics g, FileIO file, String fileName) {
+		TextureAtlas atlas = new TextureAtlas();
+		InputStream in = null;
+
+		try {
+			in = file.readAsset(fileName);
+			atlas.read(g, new BufferedReader(new InputStreamReader(in)));
+		} catch (IOException e) {
+			throw new RuntimeException("Couldn't load texture atlas from asset '" + fileName + "': " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			throw new RuntimeException("Couldn't load texture atlas from asset '" + fileName + "': " + e.getMessage());
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+
+		return atlas;
+	}
+
+	private void read(Graphics g, BufferedReader in) throws IOException {
+		Pixmap sheet = null;
+		String line;
+
+		while((line = in.readLine()) != null) {
+			line = line.trim();
+
+			if(line.length() == 0 || line.startsWith(";")) {
+				continue;
+			}
+
+			String[] parts = line.split("\\s+");
+
+			if(parts[0].equals("sheet") && parts.length == 3) {
+				sheet = g.newPixmap(parts[1], PixmapFormat.valueOf(parts[2]));
+				sheets.add(sheet);
+			} else if(sheet != null && parts.length == 5) {
+				regions.put(parts[0], new PixmapRegion(sheet, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+						Integer.parseInt(parts[3]), Integer.parseInt(parts[4])));
+			} else {
+				throw new IOException("Not a region table line '" + line + "'");
+			}
+		}
+	}
+
+	 /**
+	  * @param name name of the image the sprite was packed from.
+	  * @throws RuntimeException if there is no such sprite.
+	  */
+	public PixmapRegion get(String name) {
+		PixmapRegion region = regions.get(name);
+
+		if(region == null) {
+			throw new RuntimeException("Couldn't find sprite '" + name + "' in texture atlas");
+		}
+
+		return region;
+	}
+
+	 /**
+	  * @return returns the number of bytes of pixels held by the sheets, from their size and format.
+	  */
+	public int getMemoryUsage() {
+		int bytes = 0;
+
+		for(int i = 0; i < sheets.size(); i++) {
+			Pixmap sheet = sheets.get(i);
+			int bytesPerPixel = sheet.getFormat() == PixmapFormat.ARGB8888 ? 4 : 2;
+
+			bytes += sheet.getWidth() * sheet.getHeight() * bytesPerPixel;
+		}
+
+		return bytes;
+	}
+
+	public int getSheetCount() {
+		return sheets.size();
+	}
+
+	public void dispose() {
+		for(int i = 0; i < sheets.size(); i++) {
+			sheets.get(i).dispose();
+		}
+
+		sheets.clear();
+		regions.clear();
+	}
+
+}
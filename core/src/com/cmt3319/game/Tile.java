@@ -0,0 +1,101 @@
+package com.cmt3319.game;
+
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.math.RectF;
+
+
+/**
+ * Represents a tile on screen. Holds the tiles id {@link Tile#tileID} i.e. its type,
+ * the tiles image, and its location in the world. Provides methods to draw tiles (invoked by {@link Map}),
+ * and check if a tile is on screen. Tiles are held by a {@link Chunk}, which is retired as a whole once it
+ * is off screen.
+ * 
+ * A tiles position never changes while it is in use. The world is scrolled by {@link Map}, which passes
+ * the amount scrolled to {@link Tile#Draw(Graphics, float)} and {@link Tile#isOnScreen(float)}.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class Tile {
+	public enum TileID {WALL, HAZARD, COLLECTIBLE, GRAVITY}
+	
+	private Pixmap image;
+	
+	private int x, y;
+	
+	private int column, row;
+	
+	private TileID tileID;
+	
+	private final RectF bounds = new RectF();
+	 
+	public Tile(Pixmap image, int x, int y, TileID id) {
+		reset(image, x, y, id);
+	}
+	
+	 /**
+	  * Places the tile in a new cell with a new image and id. Tiles are kept in a {@link com.cmt3319.interfaces.Pool}
+	  * by {@link Map} and reset when they are reused, so a reused tile is the same as a new one.
+	  * 
+	  * @param x column of the tile.
+	  * @param y row of the tile.
+	  */
+	public void reset(Pixmap image, int x, int y, TileID id) {
+		this.image = image;
+		this.column = x;
+		this.row = y;
+		this.x = x * image.getWidth();
+		this.y = y * image.getHeight();
+		
+		this.tileID = id;
+		
+		bounds.set(this.x, this.y, this.x + image.getWidth(), this.y + image.getHeight());
+	}
+	
+	public void Draw(Graphics g, float scrollX) {
+		g.drawPixmap(image, x - scrollX, y);
+	}
+
+	 /**
+	  * @return returns the bounds of the tile in the world. The same instance is returned on every call
+	  * and only changes when the tile is reset, so it must not be modified by the caller.
+	  */
+	public RectF getBoundingBox() {
+		return bounds;
+	}
+	
+	public int getX() {
+		return x;
+	}
+	
+	public Boolean isOnScreen(float scrollX) {
+		return x - scrollX > 0 - image.getWidth();
+	}
+	
+	 /**
+	  * Same as {@link Tile#isOnScreen(float)} but also tests the right of the screen, so tiles loaded ahead
+	  * of the screen are not drawn.
+	  */
+	public boolean isOnScreen(float scrollX, float screenWidth) {
+		return x - scrollX > 0 - image.getWidth() && x - scrollX < screenWidth;
+	}
+	
+	public Boolean isTimeToRemove(float screenWidth) {
+		return x > (screenWidth * 2);
+	}
+
+	public TileID getID(){
+		return tileID;
+	}
+	
+	public int getColumn() {
+		return column;
+	}
+	
+	public int getRow() {
+		return row;
+	}
+	
+}
@@ -0,0 +1,64 @@
+package com.cmt3319.game;
+
+/**
+ * Cell-addressed index of {@link Tile}s. Each cell holds at most one tile, addressed by its
+ * column and row on the {@link TileSet} grid. Each {@link Chunk} keeps one of these so the collision
+ * checks in {@link Map} only test the cells a body's bounding box overlaps rather than every tile in the world.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class TileGrid {
+
+	private final int columns, rows;
+
+	private final Tile[] cells;
+
+	public TileGrid(int columns, int rows) {
+		this.columns = columns;
+		this.rows = rows;
+
+		cells = new Tile[columns * rows];
+	}
+
+	 /**
+	  * Converts a column and row to a position in {@link TileGrid#cells}.
+	  *
+	  * @return returns the index of the cell, or -1 if the column or row is outside of the grid.
+	  */
+	private int indexOf(int column, int row) {
+		if(row < 0 || row >= rows || column < 0 || column >= columns) {
+			return -1;
+		}
+
+		return row * columns + column;
+	}
+
+	public Tile get(int column, int row) {
+		int index = indexOf(column, row);
+
+		if(index < 0) {
+			return null;
+		}
+
+		return cells[index];
+	}
+
+	public void set(int column, int row, Tile tile) {
+		int index = indexOf(column, row);
+
+		if(index >= 0) {
+			cells[index] = tile;
+		}
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.cmt3319.game;
+
+import java.util.Random;
+
+/**
+ * Holds the tilesets used by {@link Map}. Contains three tables, each table containing five
+ *  tilesets. {@link TileSet#tileArrayEasy}  contains introductory tiles with hazards and collectibles.
+ *  {@link TileSet#tileArrayMedium} introduces the tiles that reverse gravity, and {@link TileSet#tileArrayHard}
+ *  introduces enemies. 
+ *  
+ *  The tables are read from the {@link LevelPack} loaded by {@link LoadingScreen}, already compiled into
+ *  {@link ChunkData}, and are shared by every TileSet rather than copied.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class TileSet {
+	
+	private boolean isFirstTileSet;
+	
+	private ChunkData[] tileArrayEasy, tileArrayMedium, tileArrayHard;
+	
+	private ChunkData tileArrayFirst;
+	
+	private Random rand;
+	private int difficultyLevel;
+	
+	public TileSet(){
+		this(System.nanoTime());
+	}
+	
+	public TileSet(long seed){
+		this(Assets.getInstance().getLevelPack(), seed);
+	}
+	
+	public TileSet(LevelPack pack, long seed){
+		tileArrayFirst = pack.getTable(LevelPack.FIRST)[0];
+		tileArrayEasy = pack.getTable(LevelPack.EASY);
+		tileArrayMedium = pack.getTable(LevelPack.MEDIUM);
+		tileArrayHard = pack.getTable(LevelPack.HARD);
+		
+		rand = new Random(seed);
+		difficultyLevel = 0;
+		isFirstTileSet = true;
+	}
+	
+	 /**
+     * Used by {@link Map} class whenever a new tilemap is required. It cycles between returning
+     * a tilemap from each table using {@link TileSet#difficultyLevel}. One time in six the start tilemap
+     * is returned instead.
+     * 
+     * @return returns one compiled tile map.
+     */
+	public ChunkData getTileSet(){
+		if(!isFirstTileSet) {
+			difficultyLevel++;
+			if(difficultyLevel > 3) {
+				difficultyLevel = 1;
+			}
+			
+			int nextLevel = rand.nextInt(tileArrayEasy.length + 1);
+			
+			ChunkData[] table;
+			
+			if(difficultyLevel == 1) {
+				table = tileArrayEasy;
+			} else if (difficultyLevel == 2) {
+				table = tileArrayMedium;
+			} else {
+				table = tileArrayHard;
+			}
+			
+			if(nextLevel < table.length) {
+				return table[nextLevel];
+			}
+		} 
+	
+		isFirstTileSet = false; 
+		return tileArrayFirst;
+		
+	}
+
+}
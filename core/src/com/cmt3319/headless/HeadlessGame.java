@@ -0,0 +1,115 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.interfaces.Audio;
+import com.cmt3319.interfaces.FileIO;
+import com.cmt3319.interfaces.Game;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Input;
+import com.cmt3319.interfaces.Screen;
+
+/**
+ * A Game that runs on a plain JVM, for benchmarking and soak testing the game away
+ * from a device. It plays the part of AndroidGame: subclasses return the first
+ * screen from getStartScreen(), start() creates and resumes it, and a HeadlessLoop
+ * then runs it in place of AndroidFastRenderView. Input comes from a
+ * {@link HeadlessInput} and audio is silent. By default the game draws to a
+ * {@link NullGraphics} the size of the landscape framebuffer.
+ *
+ * The input the screens read can be replaced with setInput(), e.g. with a
+ * RecordingInput wrapping the HeadlessInput to record a session, or a ReplayInput
+ * to play one back.
+ */
+public abstract class HeadlessGame implements Game {
+    public static final int FRAMEBUFFER_WIDTH = 480;
+    public static final int FRAMEBUFFER_HEIGHT = 320;
+
+    Graphics graphics;
+    Audio audio;
+    HeadlessInput headlessInput;
+    Input input;
+    FileIO fileIO;
+    Screen screen;
+
+    public HeadlessGame(FileIO fileIO) {
+        this(fileIO, new NullGraphics(fileIO, FRAMEBUFFER_WIDTH, FRAMEBUFFER_HEIGHT));
+    }
+
+    public HeadlessGame(FileIO fileIO, Graphics graphics) {
+        this.fileIO = fileIO;
+        this.graphics = graphics;
+        this.audio = new SilentAudio();
+        this.headlessInput = new HeadlessInput();
+        this.input = headlessInput;
+    }
+
+    /**
+     * Creates the start screen and resumes it, as AndroidGame does in onCreate and
+     * onResume.
+     */
+    public void start() {
+        screen = getStartScreen();
+        screen.resume();
+    }
+
+    /**
+     * Pauses and disposes of the current screen, as AndroidGame does when it finishes.
+     */
+    public void stop() {
+        screen.pause();
+        screen.dispose();
+    }
+
+    /**
+     * Replaces the input the screens read from.
+     */
+    public void setInput(Input input) {
+        if (input == null)
+            throw new IllegalArgumentException("Input must not be null");
+        this.input = input;
+    }
+
+    /**
+     * @return returns the HeadlessInput that touches and keys are sent to, whether
+     *         or not the screens are reading from it.
+     */
+    public HeadlessInput getHeadlessInput() {
+        return headlessInput;
+    }
+
+    @Override
+    public Input getInput() {
+        return input;
+    }
+
+    @Override
+    public FileIO getFileIO() {
+        return fileIO;
+    }
+
+    @Override
+    public Graphics getGraphics() {
+        return graphics;
+    }
+
+    @Override
+    public Audio getAudio() {
+        return audio;
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        if (screen == null)
+            throw new IllegalArgumentException("Screen must not be null");
+
+        this.screen.pause();
+        this.screen.dispose();
+        screen.resume();
+        screen.update(0);
+        this.screen = screen;
+    }
+
+    @Override
+    public Screen getCurrentScreen() {
+        return screen;
+    }
+}
@@ -0,0 +1,168 @@
+package com.cmt3319.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cmt3319.interfaces.Input;
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.interfaces.Pool.PoolObjectFactory;
+
+/**
+ * An Input driven by calls rather than a device. Key and touch events are queued as
+ * they are made and handed out by the next getKeyEvents() or getTouchEvents(), the
+ * same way KeyboardHandler and MultiTouchHandler buffer them, and the touch and key
+ * state is kept up to date for the polling methods. Pointers are numbered from 0 to
+ * MAX_TOUCHPOINTS - 1; coordinates are in framebuffer pixels.
+ */
+public class HeadlessInput implements Input {
+    public static final int MAX_TOUCHPOINTS = 10;
+
+    boolean[] pressedKeys = new boolean[128];
+    boolean[] isTouched = new boolean[MAX_TOUCHPOINTS];
+    int[] touchX = new int[MAX_TOUCHPOINTS];
+    int[] touchY = new int[MAX_TOUCHPOINTS];
+    float accelX, accelY, accelZ;
+
+    Pool<KeyEvent> keyEventPool;
+    List<KeyEvent> keyEventsBuffer = new ArrayList<KeyEvent>();
+    List<KeyEvent> keyEvents = new ArrayList<KeyEvent>();
+    Pool<TouchEvent> touchEventPool;
+    List<TouchEvent> touchEventsBuffer = new ArrayList<TouchEvent>();
+    List<TouchEvent> touchEvents = new ArrayList<TouchEvent>();
+
+    public HeadlessInput() {
+        keyEventPool = new Pool<KeyEvent>(new PoolObjectFactory<KeyEvent>() {
+            @Override
+            public KeyEvent createObject() {
+                return new KeyEvent();
+            }
+        }, 100);
+        touchEventPool = new Pool<TouchEvent>(new PoolObjectFactory<TouchEvent>() {
+            @Override
+            public TouchEvent createObject() {
+                return new TouchEvent();
+            }
+        }, 100);
+    }
+
+    public synchronized void keyDown(int keyCode, char keyChar) {
+        addKeyEvent(KeyEvent.KEY_DOWN, keyCode, keyChar);
+        if (keyCode >= 0 && keyCode < 128)
+            pressedKeys[keyCode] = true;
+    }
+
+    public synchronized void keyUp(int keyCode, char keyChar) {
+        addKeyEvent(KeyEvent.KEY_UP, keyCode, keyChar);
+        if (keyCode >= 0 && keyCode < 128)
+            pressedKeys[keyCode] = false;
+    }
+
+    public synchronized void touchDown(int pointer, int x, int y) {
+        addTouchEvent(TouchEvent.TOUCH_DOWN, pointer, x, y);
+        isTouched[pointer] = true;
+    }
+
+    public synchronized void touchDragged(int pointer, int x, int y) {
+        addTouchEvent(TouchEvent.TOUCH_DRAGGED, pointer, x, y);
+        isTouched[pointer] = true;
+    }
+
+    public synchronized void touchUp(int pointer, int x, int y) {
+        addTouchEvent(TouchEvent.TOUCH_UP, pointer, x, y);
+        isTouched[pointer] = false;
+    }
+
+    /**
+     * Sets the accelerometer reading, in m/s^2 as AccelerometerHandler reports it.
+     */
+    public synchronized void setAccel(float x, float y, float z) {
+        accelX = x;
+        accelY = y;
+        accelZ = z;
+    }
+
+    private void addKeyEvent(int type, int keyCode, char keyChar) {
+        KeyEvent keyEvent = keyEventPool.newObject();
+        keyEvent.type = type;
+        keyEvent.keyCode = keyCode;
+        keyEvent.keyChar = keyChar;
+        keyEventsBuffer.add(keyEvent);
+    }
+
+    private void addTouchEvent(int type, int pointer, int x, int y) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            throw new IllegalArgumentException("Pointer " + pointer + " is out of range");
+
+        TouchEvent touchEvent = touchEventPool.newObject();
+        touchEvent.type = type;
+        touchEvent.pointer = pointer;
+        touchEvent.x = touchX[pointer] = x;
+        touchEvent.y = touchY[pointer] = y;
+        touchEventsBuffer.add(touchEvent);
+    }
+
+    @Override
+    public synchronized boolean isKeyPressed(int keyCode) {
+        if (keyCode < 0 || keyCode > 127)
+            return false;
+        return pressedKeys[keyCode];
+    }
+
+    @Override
+    public synchronized boolean isTouchDown(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return false;
+        return isTouched[pointer];
+    }
+
+    @Override
+    public synchronized int getTouchX(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return 0;
+        return touchX[pointer];
+    }
+
+    @Override
+    public synchronized int getTouchY(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return 0;
+        return touchY[pointer];
+    }
+
+    @Override
+    public synchronized float getAccelX() {
+        return accelX;
+    }
+
+    @Override
+    public synchronized float getAccelY() {
+        return accelY;
+    }
+
+    @Override
+    public synchronized float getAccelZ() {
+        return accelZ;
+    }
+
+    @Override
+    public synchronized List<KeyEvent> getKeyEvents() {
+        int len = keyEvents.size();
+        for (int i = 0; i < len; i++)
+            keyEventPool.free(keyEvents.get(i));
+        keyEvents.clear();
+        keyEvents.addAll(keyEventsBuffer);
+        keyEventsBuffer.clear();
+        return keyEvents;
+    }
+
+    @Override
+    public synchronized List<TouchEvent> getTouchEvents() {
+        int len = touchEvents.size();
+        for (int i = 0; i < len; i++)
+            touchEventPool.free(touchEvents.get(i));
+        touchEvents.clear();
+        touchEvents.addAll(touchEventsBuffer);
+        touchEventsBuffer.clear();
+        return touchEvents;
+    }
+}
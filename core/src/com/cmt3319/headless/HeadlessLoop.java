@@ -0,0 +1,129 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.profiling.FrameProfiler;
+
+/**
+ * Runs a HeadlessGame with the same fixed tick loop as AndroidFastRenderView, but
+ * on a simulated clock and without waiting for the display, so it runs as fast as
+ * the CPU allows. Each frame is given a length of time: that much is added to the
+ * accumulator, as many ticks are run as fit in it and the screen is presented with
+ * what is left over, at most MAX_TICKS_PER_FRAME ticks per frame. A run with the
+ * same frame lengths and input always does the same ticks.
+ *
+ * <pre>
+ * HeadlessLoop loop = new HeadlessLoop(game, 60);
+ * loop.runTicks(60 * 60); // a minute of game time
+ * </pre>
+ *
+ * A {@link FrameProfiler} given to setProfiler() times the update and present of
+ * each frame, as it does on a device; there is no surface to lock or post to.
+ */
+public class HeadlessLoop {
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    static final int MAX_TICKS_PER_FRAME = 5;
+
+    final HeadlessGame game;
+    final float tickTime;
+    float accumulator = 0;
+    boolean presenting = true;
+    long ticks = 0;
+    long frames = 0;
+    FrameProfiler profiler;
+
+    public HeadlessLoop(HeadlessGame game) {
+        this(game, DEFAULT_TICKS_PER_SECOND);
+    }
+
+    public HeadlessLoop(HeadlessGame game, int ticksPerSecond) {
+        this.game = game;
+        this.tickTime = 1.0f / ticksPerSecond;
+    }
+
+    /**
+     * Runs frames, each frameTime seconds long.
+     */
+    public void runFrames(int count, float frameTime) {
+        for (int i = 0; i < count; i++)
+            runFrame(frameTime);
+    }
+
+    /**
+     * Runs frames of exactly one tick each, the usual way to run the simulation.
+     */
+    public void runTicks(int count) {
+        for (int i = 0; i < count; i++) {
+            if (profiler != null)
+                profiler.beginFrame();
+
+            game.getCurrentScreen().update(tickTime);
+            ticks++;
+            if (profiler != null) {
+                profiler.tick();
+                profiler.mark(FrameProfiler.UPDATE);
+            }
+
+            if (presenting)
+                game.getCurrentScreen().present(tickTime, accumulator / tickTime);
+            frames++;
+            if (profiler != null) {
+                profiler.mark(FrameProfiler.PRESENT);
+                profiler.endFrame();
+            }
+        }
+    }
+
+    public void runFrame(float frameTime) {
+        if (profiler != null)
+            profiler.beginFrame();
+
+        accumulator += Math.min(frameTime, tickTime * MAX_TICKS_PER_FRAME);
+        while (accumulator >= tickTime) {
+            game.getCurrentScreen().update(tickTime);
+            accumulator -= tickTime;
+            ticks++;
+            if (profiler != null)
+                profiler.tick();
+        }
+        if (profiler != null)
+            profiler.mark(FrameProfiler.UPDATE);
+
+        if (presenting)
+            game.getCurrentScreen().present(frameTime, accumulator / tickTime);
+        frames++;
+        if (profiler != null) {
+            profiler.mark(FrameProfiler.PRESENT);
+            profiler.endFrame();
+        }
+    }
+
+    /**
+     * Whether frames are presented after their ticks. Turn it off to time the
+     * simulation alone.
+     */
+    public void setPresenting(boolean presenting) {
+        this.presenting = presenting;
+    }
+
+    /**
+     * Times each frame with profiler, or stops timing them if it is null.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public float getTickTime() {
+        return tickTime;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+}
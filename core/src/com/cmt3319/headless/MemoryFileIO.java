@@ -0,0 +1,75 @@
+package com.cmt3319.headless;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+
+import com.cmt3319.interfaces.FileIO;
+
+/**
+ * A FileIO that reads assets from a folder on disk, normally the project's assets
+ * folder, and keeps written files in memory. Nothing written by a run is left
+ * behind, and each run starts from the same files.
+ */
+public class MemoryFileIO implements FileIO {
+    File assetPath;
+    HashMap<String, byte[]> files = new HashMap<String, byte[]>();
+
+    public MemoryFileIO(File assetPath) {
+        this.assetPath = assetPath;
+    }
+
+    @Override
+    public InputStream readAsset(String fileName) throws IOException {
+        return new FileInputStream(new File(assetPath, fileName));
+    }
+
+    @Override
+    public InputStream readFile(String fileName) throws IOException {
+        byte[] data;
+        synchronized (files) {
+            data = files.get(fileName);
+        }
+        if (data == null)
+            throw new FileNotFoundException(fileName);
+        return new ByteArrayInputStream(data);
+    }
+
+    /**
+     * The file is stored when the stream is closed.
+     */
+    @Override
+    public OutputStream writeFile(final String fileName) throws IOException {
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                putFile(fileName, toByteArray());
+            }
+        };
+    }
+
+    /**
+     * Sets the contents of a file, e.g. saved settings for a run to start from.
+     */
+    public void putFile(String fileName, byte[] data) {
+        synchronized (files) {
+            files.put(fileName, data);
+        }
+    }
+
+    /**
+     * @return returns the contents of a file, or null if it has not been written.
+     */
+    public byte[] getFile(String fileName) {
+        synchronized (files) {
+            return files.get(fileName);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.interfaces.FileIO;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.software.SoftwareGraphics;
+import com.cmt3319.software.SoftwarePixmap;
+
+/**
+ * A Graphics that draws nothing but counts what it is asked to draw. Images are
+ * still loaded, so their sizes are right and missing assets are reported, but the
+ * cost of a frame is only that of the screen deciding what to draw. Use
+ * SoftwareGraphics instead to draw the pixels.
+ */
+public class NullGraphics implements Graphics {
+    FileIO fileIO;
+    int width, height;
+    int drawCalls;
+    long pixmapPixels;
+
+    public NullGraphics(FileIO fileIO, int width, int height) {
+        this.fileIO = fileIO;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public Pixmap newPixmap(String fileName, PixmapFormat format) {
+        return new SoftwareGraphics(fileIO, null).newPixmap(fileName, format);
+    }
+
+    @Override
+    public Pixmap newPixmap(int width, int height, PixmapFormat format) {
+        return new SoftwarePixmap(width, height, format);
+    }
+
+    @Override
+    public Graphics newGraphics(Pixmap pixmap) {
+        return new NullGraphics(fileIO, pixmap.getWidth(), pixmap.getHeight());
+    }
+
+    @Override
+    public void clear(int color) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawPixel(int x, int y, int color) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawLine(int x, int y, int x2, int y2, int color) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height, int color) {
+        drawCalls++;
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, int x, int y, int srcX, int srcY,
+            int srcWidth, int srcHeight) {
+        drawCalls++;
+        pixmapPixels += srcWidth * srcHeight;
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, int x, int y) {
+        drawCalls++;
+        pixmapPixels += pixmap.getWidth() * pixmap.getHeight();
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, float x, float y) {
+        drawCalls++;
+        pixmapPixels += pixmap.getWidth() * pixmap.getHeight();
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return returns the number of draw calls since the counts were last reset.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * @return returns the number of pixmap pixels drawn since the counts were last
+     * reset, before clipping.
+     */
+    public long getPixmapPixels() {
+        return pixmapPixels;
+    }
+
+    public void resetCounts() {
+        drawCalls = 0;
+        pixmapPixels = 0;
+    }
+}
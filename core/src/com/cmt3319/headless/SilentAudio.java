@@ -0,0 +1,21 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.interfaces.Audio;
+import com.cmt3319.interfaces.Music;
+import com.cmt3319.interfaces.Sound;
+
+/**
+ * An Audio that plays nothing. The files are not read, so missing sounds are not
+ * reported as they are by AndroidAudio.
+ */
+public class SilentAudio implements Audio {
+    @Override
+    public Music newMusic(String filename) {
+        return new SilentMusic();
+    }
+
+    @Override
+    public Sound newSound(String filename) {
+        return new SilentSound();
+    }
+}
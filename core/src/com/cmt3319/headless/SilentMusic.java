@@ -0,0 +1,63 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.interfaces.Music;
+
+/**
+ * Music that makes no sound but keeps track of whether it is playing, so screens
+ * that check it behave as they do on a device. A looping track plays until it is
+ * paused or stopped; one that does not loop also plays on, as there is no track
+ * length to reach the end of.
+ */
+public class SilentMusic implements Music {
+    boolean isPlaying = false;
+    boolean isStopped = false;
+    boolean isLooping = false;
+    float volume = 1;
+
+    @Override
+    public void play() {
+        isPlaying = true;
+        isStopped = false;
+    }
+
+    @Override
+    public void stop() {
+        isPlaying = false;
+        isStopped = true;
+    }
+
+    @Override
+    public void pause() {
+        isPlaying = false;
+    }
+
+    @Override
+    public void setLooping(boolean looping) {
+        isLooping = looping;
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        this.volume = volume;
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return isPlaying;
+    }
+
+    @Override
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    @Override
+    public boolean isLooping() {
+        return isLooping;
+    }
+
+    @Override
+    public void dispose() {
+        isPlaying = false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.cmt3319.headless;
+
+import com.cmt3319.interfaces.Sound;
+
+public class SilentSound implements Sound {
+    @Override
+    public void play(float volume) {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
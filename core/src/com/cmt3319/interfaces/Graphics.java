@@ -1,7 +1,5 @@
 package com.cmt3319.interfaces;
 
-import android.graphics.Canvas;
-
 public interface Graphics {
     public static enum PixmapFormat {
         ARGB8888, ARGB4444, RGB565
@@ -9,6 +7,10 @@ public interface Graphics {
 
     public Pixmap newPixmap(String fileName, PixmapFormat format);
 
+    public Pixmap newPixmap(int width, int height, PixmapFormat format);
+
+    public Graphics newGraphics(Pixmap pixmap);
+
     public void clear(int color);
 
     public void drawPixel(int x, int y, int color);
@@ -27,6 +29,4 @@ public interface Graphics {
     public int getWidth();
 
     public int getHeight();
-    
-    public Canvas getCanvas();
 }
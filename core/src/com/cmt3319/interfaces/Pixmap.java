@@ -0,0 +1,21 @@
+package com.cmt3319.interfaces;
+
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+
+public interface Pixmap {
+    public int getWidth();
+
+    public int getHeight();
+
+    public PixmapFormat getFormat();
+
+    public void erase();
+
+    /**
+     * Erases the pixels of a rectangle to transparent, or black for formats without
+     * alpha. The part of the rectangle outside the Pixmap is ignored.
+     */
+    public void erase(int x, int y, int width, int height);
+
+    public void dispose();
+}
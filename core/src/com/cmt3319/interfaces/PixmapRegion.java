@@ -0,0 +1,71 @@
+package com.cmt3319.interfaces;
+
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+
+/**
+ * A rectangle of a larger Pixmap, e.g. one sprite of a texture atlas sheet. It can be
+ * passed to any of the Graphics.drawPixmap methods in place of a Pixmap, which draw
+ * only the rectangle. The sheet is owned by whoever created the region, so disposing
+ * a region does nothing, and erasing a region only erases its rectangle of the sheet.
+ */
+public class PixmapRegion implements Pixmap {
+    private final Pixmap sheet;
+    private final int x, y, width, height;
+
+    public PixmapRegion(Pixmap sheet, int x, int y, int width, int height) {
+        if (x < 0 || y < 0 || width <= 0 || height <= 0
+                || x + width > sheet.getWidth() || y + height > sheet.getHeight())
+            throw new IllegalArgumentException("Region is not inside the sheet");
+
+        this.sheet = sheet;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public Pixmap getSheet() {
+        return sheet;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public PixmapFormat getFormat() {
+        return sheet.getFormat();
+    }
+
+    @Override
+    public void erase() {
+        sheet.erase(x, y, width, height);
+    }
+
+    @Override
+    public void erase(int x, int y, int width, int height) {
+        int left = Math.max(0, x), top = Math.max(0, y);
+        int right = Math.min(this.width, x + width), bottom = Math.min(this.height, y + height);
+
+        if (left < right && top < bottom)
+            sheet.erase(this.x + left, this.y + top, right - left, bottom - top);
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,28 @@
+package com.cmt3319.interfaces;
+
+public abstract class Screen {
+    protected final Game game;
+
+    public Screen(Game game) {
+        this.game = game;
+    }
+
+    public abstract void update(float deltaTime);
+
+    public abstract void present(float deltaTime);
+
+    /**
+     * Called by the game loop after the fixed ticks for a frame have run. alpha is how far the
+     * frame is between the last tick and the next one, from 0 to 1. Screens that move things
+     * override this to draw them part way between ticks; by default it calls present(deltaTime).
+     */
+    public void present(float deltaTime, float alpha) {
+        present(deltaTime);
+    }
+
+    public abstract void pause();
+
+    public abstract void resume();
+
+    public abstract void dispose();
+}
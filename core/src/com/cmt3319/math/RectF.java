@@ -0,0 +1,81 @@
+package com.cmt3319.math;
+
+/**
+ * A rectangle with float edges, left and top inclusive, right and bottom exclusive.
+ * It has the fields and methods of android.graphics.RectF that the game uses, so
+ * the game compiles and behaves the same without android.jar. The class is final
+ * and its methods are small, so they can be inlined wherever they are called.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public final class RectF {
+
+	public float left, top, right, bottom;
+
+	public RectF() {
+	}
+
+	public RectF(float left, float top, float right, float bottom) {
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+
+	public void set(float left, float top, float right, float bottom) {
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+
+	public void set(RectF rect) {
+		left = rect.left;
+		top = rect.top;
+		right = rect.right;
+		bottom = rect.bottom;
+	}
+
+	public void offset(float dx, float dy) {
+		left += dx;
+		right += dx;
+		top += dy;
+		bottom += dy;
+	}
+
+	public float width() {
+		return right - left;
+	}
+
+	public float height() {
+		return bottom - top;
+	}
+
+	public float centerX() {
+		return (left + right) * 0.5f;
+	}
+
+	public float centerY() {
+		return (top + bottom) * 0.5f;
+	}
+
+	public boolean contains(float x, float y) {
+		return x >= left && x < right && y >= top && y < bottom;
+	}
+
+	public boolean intersects(float left, float top, float right, float bottom) {
+		return this.left < right && left < this.right && this.top < bottom && top < this.bottom;
+	}
+
+	public static boolean intersects(RectF a, RectF b) {
+		return a.left < b.right && b.left < a.right && a.top < b.bottom && b.top < a.bottom;
+	}
+
+	@Override
+	public String toString() {
+		return "RectF(" + left + ", " + top + ", " + right + ", " + bottom + ")";
+	}
+
+}
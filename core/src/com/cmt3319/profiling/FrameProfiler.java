@@ -0,0 +1,330 @@
+package com.cmt3319.profiling;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Times the phases of each frame of a game loop, to tell whether a stutter comes
+ * from the simulation, from drawing the frame or from posting it to the display.
+ * The loop marks the end of each phase as it goes:
+ *
+ * <pre>
+ * profiler.beginFrame();
+ * while (accumulator >= tickTime) {
+ *     screen.update(tickTime);
+ *     profiler.tick();
+ * }
+ * profiler.mark(FrameProfiler.UPDATE);
+ * screen.present(deltaTime, alpha);
+ * profiler.mark(FrameProfiler.PRESENT);
+ * ...
+ * profiler.endFrame();
+ * </pre>
+ *
+ * A phase is the time since the previous mark, or since beginFrame(), and FRAME is
+ * the time from beginFrame() to endFrame(). Marking a phase twice in a frame adds
+ * the two times together.
+ *
+ * The last capacity frames are kept in a ring, and every frame since the last
+ * reset() is counted in a histogram per phase. The histogram buckets are powers of
+ * two split into four, so a percentile read from it is at most a quarter too high.
+ * Nothing is allocated while profiling, so the profiler can stay on in the loop.
+ * The render thread writes and any thread can read; on the render thread only
+ * endFrame() takes the lock.
+ */
+public class FrameProfiler {
+    public static final int UPDATE = 0;
+    public static final int PRESENT = 1;
+    public static final int LOCK = 2;
+    public static final int BLIT = 3;
+    public static final int POST = 4;
+    public static final int FRAME = 5;
+    public static final int PHASES = 6;
+
+    public static final int DEFAULT_CAPACITY = 600;
+
+    static final String[] NAMES = { "update", "present", "lock", "blit", "post", "frame" };
+
+    static final int SUB_BUCKET_BITS = 2;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    final int capacity;
+    final long[] recent;
+    final int[] recentTicks;
+    final long[] histograms = new long[PHASES * BUCKETS];
+    final long[] totals = new long[PHASES];
+    final long[] maxima = new long[PHASES];
+
+    final long[] current = new long[PHASES];
+    long frameStart, phaseStart;
+    int ticks;
+
+    long frames;
+    int next;
+    volatile boolean enabled = true;
+
+    public FrameProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of recent frames kept in the ring.
+     */
+    public FrameProfiler(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1");
+
+        this.capacity = capacity;
+        this.recent = new long[capacity * PHASES];
+        this.recentTicks = new int[capacity];
+    }
+
+    public static String getPhaseName(int phase) {
+        return NAMES[phase];
+    }
+
+    /**
+     * Turns profiling on or off. While off, the frame methods do nothing.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void beginFrame() {
+        if (!enabled)
+            return;
+
+        for (int i = 0; i < PHASES; i++)
+            current[i] = 0;
+        ticks = 0;
+        frameStart = System.nanoTime();
+        phaseStart = frameStart;
+    }
+
+    /**
+     * Ends a phase, adding the time since the last mark to it.
+     */
+    public void mark(int phase) {
+        if (!enabled)
+            return;
+
+        long now = System.nanoTime();
+        current[phase] += now - phaseStart;
+        phaseStart = now;
+    }
+
+    /**
+     * Counts a tick of the simulation in this frame.
+     */
+    public void tick() {
+        if (!enabled)
+            return;
+
+        ticks++;
+    }
+
+    public void endFrame() {
+        if (!enabled)
+            return;
+
+        current[FRAME] = System.nanoTime() - frameStart;
+
+        synchronized (this) {
+            int offset = next * PHASES;
+            for (int i = 0; i < PHASES; i++) {
+                long time = current[i];
+                recent[offset + i] = time;
+                histograms[i * BUCKETS + bucket(time)]++;
+                totals[i] += time;
+                if (time > maxima[i])
+                    maxima[i] = time;
+            }
+
+            recentTicks[next] = ticks;
+            next = next + 1 == capacity ? 0 : next + 1;
+            frames++;
+        }
+    }
+
+    /**
+     * Forgets every frame profiled so far.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < histograms.length; i++)
+            histograms[i] = 0;
+        for (int i = 0; i < PHASES; i++) {
+            totals[i] = 0;
+            maxima[i] = 0;
+        }
+        frames = 0;
+        next = 0;
+    }
+
+    public synchronized long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * @return returns the mean time of a phase in nanoseconds.
+     */
+    public synchronized long getMean(int phase) {
+        return frames == 0 ? 0 : totals[phase] / frames;
+    }
+
+    /**
+     * @return returns the longest time of a phase in nanoseconds.
+     */
+    public synchronized long getMax(int phase) {
+        return maxima[phase];
+    }
+
+    /**
+     * @param percentile between 0 and 1, e.g. 0.99.
+     * @return returns the time in nanoseconds that this share of the frames took
+     *         no longer than for a phase, as the top of its histogram bucket.
+     */
+    public synchronized long getPercentile(int phase, double percentile) {
+        return percentile(histograms, maxima, frames, phase, percentile);
+    }
+
+    /**
+     * Copies the times of a phase in the most recent frames, oldest first, into
+     * times.
+     *
+     * @return returns the number of frames copied.
+     */
+    public synchronized int getRecent(int phase, long[] times) {
+        int count = (int) Math.min(Math.min(frames, capacity), times.length);
+        int frame = next - count;
+        if (frame < 0)
+            frame += capacity;
+
+        for (int i = 0; i < count; i++) {
+            times[i] = recent[frame * PHASES + phase];
+            frame = frame + 1 == capacity ? 0 : frame + 1;
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes a summary of each phase, the non-empty histogram buckets and the
+     * recent frames as text. The profile is copied first, so the loop is not held
+     * up while it is written. The writer is flushed but not closed.
+     */
+    public void dump(Writer writer) throws IOException {
+        long frames;
+        int next;
+        long[] histograms, totals, maxima, recent;
+        int[] recentTicks;
+
+        synchronized (this) {
+            frames = this.frames;
+            next = this.next;
+            histograms = this.histograms.clone();
+            totals = this.totals.clone();
+            maxima = this.maxima.clone();
+            recent = this.recent.clone();
+            recentTicks = this.recentTicks.clone();
+        }
+
+        PrintWriter out = new PrintWriter(writer);
+        int count = (int) Math.min(frames, capacity);
+
+        out.println("# frame profile, " + frames + " frames, times in microseconds");
+        out.println("phase,mean,p50,p95,p99,max");
+        for (int i = 0; i < PHASES; i++) {
+            out.println(NAMES[i] + "," + micros(frames == 0 ? 0 : totals[i] / frames) + ","
+                    + micros(percentile(histograms, maxima, frames, i, 0.5)) + ","
+                    + micros(percentile(histograms, maxima, frames, i, 0.95)) + ","
+                    + micros(percentile(histograms, maxima, frames, i, 0.99)) + ","
+                    + micros(maxima[i]));
+        }
+
+        out.println();
+        out.println("phase,from,to,frames");
+        for (int i = 0; i < PHASES; i++) {
+            for (int j = 0; j < BUCKETS; j++) {
+                long bucketCount = histograms[i * BUCKETS + j];
+                if (bucketCount > 0)
+                    out.println(NAMES[i] + "," + micros(bucketStart(j)) + ","
+                            + micros(bucketEnd(j)) + "," + bucketCount);
+            }
+        }
+
+        out.println();
+        out.print("frame,ticks");
+        for (int i = 0; i < PHASES; i++)
+            out.print("," + NAMES[i]);
+        out.println();
+
+        int frame = next - count;
+        if (frame < 0)
+            frame += capacity;
+        for (int i = 0; i < count; i++) {
+            out.print((frames - count + i) + "," + recentTicks[frame]);
+            for (int j = 0; j < PHASES; j++)
+                out.print("," + micros(recent[frame * PHASES + j]));
+            out.println();
+            frame = frame + 1 == capacity ? 0 : frame + 1;
+        }
+
+        out.flush();
+        if (out.checkError())
+            throw new IOException("Couldn't write the frame profile");
+    }
+
+    private static long percentile(long[] histograms, long[] maxima, long frames,
+            int phase, double percentile) {
+        if (frames == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * frames));
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            count += histograms[phase * BUCKETS + i];
+            if (count >= rank)
+                return Math.min(bucketEnd(i), maxima[phase]);
+        }
+
+        return maxima[phase];
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.US, "%.3f", nanos / 1000.0);
+    }
+
+    /**
+     * The bucket of a time: times below SUB_BUCKETS have a bucket each, and above
+     * that each power of two is split into SUB_BUCKETS buckets.
+     */
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return nanos < 0 ? 0 : (int) nanos;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketStart(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long bucketEnd(int bucket) {
+        return bucket + 1 < BUCKETS ? bucketStart(bucket + 1) - 1 : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,191 @@
+package com.cmt3319.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.cmt3319.interfaces.Input.TouchEvent;
+
+/**
+ * The input of one game session: the seeds the session was started with and the
+ * touch events handed to it on each tick. Written by {@link RecordingInput} and
+ * played back by {@link ReplayInput}. A tick is one call to getTouchEvents(), which
+ * a screen makes once per update.
+ *
+ * The events are kept in flat arrays, and are written in a compact binary form:
+ *
+ * <pre>
+ * int     MAGIC
+ * byte    VERSION
+ * long    world seed
+ * long    cloud seed
+ * varint  number of ticks
+ * varint  number of events
+ * per event:
+ *   varint  ticks since the previous event
+ *   byte    type
+ *   byte    pointer
+ *   short   x
+ *   short   y
+ * </pre>
+ *
+ * so a tick without events costs nothing, and most events take 7 bytes.
+ */
+public class InputLog {
+    public static final int MAGIC = 0x434D5452; // "CMTR"
+    public static final int VERSION = 1;
+
+    final long worldSeed, cloudSeed;
+    int tickCount;
+    int eventCount;
+    int[] ticks = new int[64];
+    byte[] types = new byte[64];
+    byte[] pointers = new byte[64];
+    short[] xs = new short[64];
+    short[] ys = new short[64];
+
+    public InputLog(long worldSeed, long cloudSeed) {
+        this.worldSeed = worldSeed;
+        this.cloudSeed = cloudSeed;
+    }
+
+    /**
+     * Adds an event to the current tick.
+     */
+    public void addEvent(TouchEvent event) {
+        addEvent(tickCount, event.type, event.pointer, event.x, event.y);
+    }
+
+    private void addEvent(int tick, int type, int pointer, int x, int y) {
+        if (eventCount == ticks.length)
+            grow();
+
+        ticks[eventCount] = tick;
+        types[eventCount] = (byte) type;
+        pointers[eventCount] = (byte) pointer;
+        xs[eventCount] = (short) x;
+        ys[eventCount] = (short) y;
+        eventCount++;
+    }
+
+    private void grow() {
+        int length = ticks.length * 2;
+        int[] newTicks = new int[length];
+        byte[] newTypes = new byte[length];
+        byte[] newPointers = new byte[length];
+        short[] newXs = new short[length];
+        short[] newYs = new short[length];
+
+        System.arraycopy(ticks, 0, newTicks, 0, eventCount);
+        System.arraycopy(types, 0, newTypes, 0, eventCount);
+        System.arraycopy(pointers, 0, newPointers, 0, eventCount);
+        System.arraycopy(xs, 0, newXs, 0, eventCount);
+        System.arraycopy(ys, 0, newYs, 0, eventCount);
+
+        ticks = newTicks;
+        types = newTypes;
+        pointers = newPointers;
+        xs = newXs;
+        ys = newYs;
+    }
+
+    /**
+     * Ends the current tick; events added after this belong to the next one.
+     */
+    public void endTick() {
+        tickCount++;
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public long getCloudSeed() {
+        return cloudSeed;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Writes the log. The stream is not closed.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(worldSeed);
+        out.writeLong(cloudSeed);
+        writeVarint(out, tickCount);
+        writeVarint(out, eventCount);
+
+        int previousTick = 0;
+        for (int i = 0; i < eventCount; i++) {
+            writeVarint(out, ticks[i] - previousTick);
+            previousTick = ticks[i];
+            out.writeByte(types[i]);
+            out.writeByte(pointers[i]);
+            out.writeShort(xs[i]);
+            out.writeShort(ys[i]);
+        }
+
+        out.flush();
+    }
+
+    /**
+     * Reads a log written by {@link InputLog#write(OutputStream)}. The stream is not
+     * closed.
+     */
+    public static InputLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not an input log");
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException("Unsupported input log version " + version);
+
+        InputLog log = new InputLog(in.readLong(), in.readLong());
+        int tickCount = readVarint(in);
+        int eventCount = readVarint(in);
+
+        int tick = 0;
+        for (int i = 0; i < eventCount; i++) {
+            tick += readVarint(in);
+            if (tick >= tickCount)
+                throw new IOException("Input log event after the last tick");
+            log.addEvent(tick, in.readByte(), in.readByte(), in.readShort(),
+                    in.readShort());
+        }
+        log.tickCount = tickCount;
+
+        return log;
+    }
+
+    private static void writeVarint(DataOutputStream out, int value)
+            throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Input log varint is too long");
+    }
+}
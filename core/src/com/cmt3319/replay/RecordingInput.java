@@ -0,0 +1,97 @@
+package com.cmt3319.replay;
+
+import java.util.List;
+
+import com.cmt3319.interfaces.Input;
+
+/**
+ * Wraps another Input and records the touch events it hands out into an
+ * {@link InputLog}, one tick per call to getTouchEvents(). Nothing is recorded
+ * until a session begins. Whoever installs the recorder begins one with the seeds
+ * of each screen it starts, before the screen's first update, e.g.
+ *
+ * <pre>
+ * GamePlayScreen screen = new GamePlayScreen(game, worldSeed, cloudSeed);
+ * recorder.begin(screen.getWorldSeed(), screen.getCloudSeed());
+ * game.setScreen(screen);
+ * </pre>
+ *
+ * Each new session replaces the log of the last. Everything else is passed
+ * straight through.
+ */
+public class RecordingInput implements Input {
+    final Input input;
+    InputLog log;
+
+    public RecordingInput(Input input) {
+        this.input = input;
+    }
+
+    /**
+     * Starts a new log for a session started with these seeds.
+     */
+    public void begin(long worldSeed, long cloudSeed) {
+        log = new InputLog(worldSeed, cloudSeed);
+    }
+
+    /**
+     * @return returns the log of the current session, or null if none has begun.
+     */
+    public InputLog getLog() {
+        return log;
+    }
+
+    @Override
+    public List<TouchEvent> getTouchEvents() {
+        List<TouchEvent> events = input.getTouchEvents();
+
+        if (log != null) {
+            int len = events.size();
+            for (int i = 0; i < len; i++)
+                log.addEvent(events.get(i));
+            log.endTick();
+        }
+
+        return events;
+    }
+
+    @Override
+    public List<KeyEvent> getKeyEvents() {
+        return input.getKeyEvents();
+    }
+
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return input.isKeyPressed(keyCode);
+    }
+
+    @Override
+    public boolean isTouchDown(int pointer) {
+        return input.isTouchDown(pointer);
+    }
+
+    @Override
+    public int getTouchX(int pointer) {
+        return input.getTouchX(pointer);
+    }
+
+    @Override
+    public int getTouchY(int pointer) {
+        return input.getTouchY(pointer);
+    }
+
+    @Override
+    public float getAccelX() {
+        return input.getAccelX();
+    }
+
+    @Override
+    public float getAccelY() {
+        return input.getAccelY();
+    }
+
+    @Override
+    public float getAccelZ() {
+        return input.getAccelZ();
+    }
+}
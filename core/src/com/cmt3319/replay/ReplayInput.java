@@ -0,0 +1,161 @@
+package com.cmt3319.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cmt3319.interfaces.Input;
+import com.cmt3319.interfaces.Pool;
+import com.cmt3319.interfaces.Pool.PoolObjectFactory;
+
+/**
+ * An Input that plays back an {@link InputLog}: each call to getTouchEvents()
+ * returns the events recorded for the next tick, and the touch state for the
+ * polling methods follows the events. There are no key events and the
+ * accelerometer reads 0. Once the log has run out no more events are returned.
+ *
+ * To reproduce a session, create the screen with the seeds in the log, e.g.
+ *
+ * <pre>
+ * game.setScreen(new GamePlayScreen(game, log.getWorldSeed(), log.getCloudSeed()));
+ * </pre>
+ *
+ * with a game whose input is the ReplayInput, and update it with the same tick
+ * length it was recorded with. One ReplayInput can play back many logs in turn,
+ * see {@link ReplayInput#restart(InputLog)}.
+ */
+public class ReplayInput implements Input {
+    static final int MAX_TOUCHPOINTS = 10;
+
+    InputLog log;
+    int tick = 0;
+    int next = 0;
+
+    boolean[] isTouched = new boolean[MAX_TOUCHPOINTS];
+    int[] touchX = new int[MAX_TOUCHPOINTS];
+    int[] touchY = new int[MAX_TOUCHPOINTS];
+
+    Pool<TouchEvent> touchEventPool;
+    List<TouchEvent> touchEvents = new ArrayList<TouchEvent>();
+    List<KeyEvent> keyEvents = new ArrayList<KeyEvent>();
+
+    public ReplayInput(InputLog log) {
+        this.log = log;
+        touchEventPool = new Pool<TouchEvent>(new PoolObjectFactory<TouchEvent>() {
+            @Override
+            public TouchEvent createObject() {
+                return new TouchEvent();
+            }
+        }, 100);
+    }
+
+    /**
+     * Starts playing back a log from its first tick, as a new ReplayInput would. The
+     * events and lists are reused, so nothing is allocated.
+     */
+    public void restart(InputLog log) {
+        int len = touchEvents.size();
+        for (int i = 0; i < len; i++)
+            touchEventPool.free(touchEvents.get(i));
+        touchEvents.clear();
+
+        for (int i = 0; i < MAX_TOUCHPOINTS; i++) {
+            isTouched[i] = false;
+            touchX[i] = 0;
+            touchY[i] = 0;
+        }
+
+        this.log = log;
+        tick = 0;
+        next = 0;
+    }
+
+    public InputLog getLog() {
+        return log;
+    }
+
+    /**
+     * @return returns the number of ticks played back so far.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    public boolean isFinished() {
+        return tick >= log.getTickCount();
+    }
+
+    @Override
+    public List<TouchEvent> getTouchEvents() {
+        int len = touchEvents.size();
+        for (int i = 0; i < len; i++)
+            touchEventPool.free(touchEvents.get(i));
+        touchEvents.clear();
+
+        while (next < log.eventCount && log.ticks[next] == tick) {
+            TouchEvent event = touchEventPool.newObject();
+            event.type = log.types[next];
+            event.pointer = log.pointers[next];
+            event.x = log.xs[next];
+            event.y = log.ys[next];
+            touchEvents.add(event);
+
+            if (event.pointer >= 0 && event.pointer < MAX_TOUCHPOINTS) {
+                isTouched[event.pointer] = event.type != TouchEvent.TOUCH_UP;
+                touchX[event.pointer] = event.x;
+                touchY[event.pointer] = event.y;
+            }
+            next++;
+        }
+
+        if (tick < log.getTickCount())
+            tick++;
+
+        return touchEvents;
+    }
+
+    @Override
+    public List<KeyEvent> getKeyEvents() {
+        return keyEvents;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return false;
+    }
+
+    @Override
+    public boolean isTouchDown(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return false;
+        return isTouched[pointer];
+    }
+
+    @Override
+    public int getTouchX(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return 0;
+        return touchX[pointer];
+    }
+
+    @Override
+    public int getTouchY(int pointer) {
+        if (pointer < 0 || pointer >= MAX_TOUCHPOINTS)
+            return 0;
+        return touchY[pointer];
+    }
+
+    @Override
+    public float getAccelX() {
+        return 0;
+    }
+
+    @Override
+    public float getAccelY() {
+        return 0;
+    }
+
+    @Override
+    public float getAccelZ() {
+        return 0;
+    }
+}
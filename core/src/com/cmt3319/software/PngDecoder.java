@@ -0,0 +1,225 @@
+package com.cmt3319.software;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes PNG images into ARGB8888 pixels using only java.util.zip, so images can
+ * be loaded wherever a JVM runs. Supports 8 bit greyscale, greyscale with alpha,
+ * truecolour, truecolour with alpha and palette images (with tRNS transparency),
+ * without interlacing, which covers everything in the assets and art folders.
+ */
+public class PngDecoder {
+    private static final long SIGNATURE = 0x89504E470D0A1A0AL;
+
+    private static final int GREY = 0, TRUECOLOUR = 2, PALETTE = 3,
+            GREY_ALPHA = 4, TRUECOLOUR_ALPHA = 6;
+
+    private int width, height;
+    private int colourType;
+    private int[] palette;
+
+    /**
+     * Decodes a whole PNG stream. The stream is not closed.
+     *
+     * @return returns the pixels as ARGB8888, row by row from the top left.
+     * Use {@link PngDecoder#getWidth()} and {@link PngDecoder#getHeight()} for the size.
+     */
+    public int[] decode(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+
+        if (in.readLong() != SIGNATURE)
+            throw new IOException("Not a PNG image");
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        palette = null;
+        width = 0;
+
+        while (true) {
+            int length = in.readInt();
+            int type = in.readInt();
+            byte[] chunk = new byte[length];
+            in.readFully(chunk);
+            in.readInt(); // CRC, not checked
+
+            if (type == 0x49484452) // IHDR
+                readHeader(chunk);
+            else if (type == 0x504C5445) // PLTE
+                readPalette(chunk);
+            else if (type == 0x74524E53) // tRNS
+                readTransparency(chunk);
+            else if (type == 0x49444154) // IDAT
+                data.write(chunk);
+            else if (type == 0x49454E44) // IEND
+                break;
+        }
+
+        if (width == 0)
+            throw new IOException("PNG image has no header");
+
+        return toPixels(inflate(data.toByteArray()));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private void readHeader(byte[] chunk) throws IOException {
+        width = readInt(chunk, 0);
+        height = readInt(chunk, 4);
+        int bitDepth = chunk[8] & 0xff;
+        colourType = chunk[9] & 0xff;
+        int interlace = chunk[12] & 0xff;
+
+        if (bitDepth != 8 || interlace != 0 || colourType == 1 || colourType == 5
+                || colourType > TRUECOLOUR_ALPHA)
+            throw new IOException("Unsupported PNG image: bit depth " + bitDepth
+                    + ", colour type " + colourType + ", interlace " + interlace);
+    }
+
+    private void readPalette(byte[] chunk) {
+        palette = new int[chunk.length / 3];
+        for (int i = 0; i < palette.length; i++)
+            palette[i] = 0xff000000 | (chunk[i * 3] & 0xff) << 16
+                    | (chunk[i * 3 + 1] & 0xff) << 8 | (chunk[i * 3 + 2] & 0xff);
+    }
+
+    private void readTransparency(byte[] chunk) {
+        if (colourType != PALETTE || palette == null)
+            return;
+        for (int i = 0; i < chunk.length && i < palette.length; i++)
+            palette[i] = (chunk[i] & 0xff) << 24 | (palette[i] & 0xffffff);
+    }
+
+    private byte[] inflate(byte[] compressed) throws IOException {
+        int stride = width * getBytesPerPixel() + 1;
+        byte[] raw = new byte[stride * height];
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+
+        try {
+            int read = 0;
+            while (read < raw.length) {
+                int count = inflater.inflate(raw, read, raw.length - read);
+                if (count == 0 && (inflater.finished() || inflater.needsInput()))
+                    throw new IOException("PNG image data is too short");
+                read += count;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("PNG image data is corrupt");
+        } finally {
+            inflater.end();
+        }
+
+        return raw;
+    }
+
+    /**
+     * Undoes the filter on each row, in place, and converts the rows to ARGB8888.
+     */
+    private int[] toPixels(byte[] raw) throws IOException {
+        int bpp = getBytesPerPixel();
+        int stride = width * bpp + 1;
+        int[] pixels = new int[width * height];
+
+        for (int y = 0; y < height; y++) {
+            int row = y * stride + 1;
+            int previous = row - stride;
+            int filter = raw[row - 1];
+
+            for (int i = 0; i < stride - 1; i++) {
+                int a = i >= bpp ? raw[row + i - bpp] & 0xff : 0;
+                int b = y > 0 ? raw[previous + i] & 0xff : 0;
+                int c = i >= bpp && y > 0 ? raw[previous + i - bpp] & 0xff : 0;
+                int x = raw[row + i] & 0xff;
+
+                switch (filter) {
+                case 0:
+                    break;
+                case 1:
+                    x += a;
+                    break;
+                case 2:
+                    x += b;
+                    break;
+                case 3:
+                    x += (a + b) >> 1;
+                    break;
+                case 4:
+                    x += paeth(a, b, c);
+                    break;
+                default:
+                    throw new IOException("Unknown PNG filter " + filter);
+                }
+
+                raw[row + i] = (byte) x;
+            }
+
+            for (int x = 0, i = row; x < width; x++, i += bpp)
+                pixels[y * width + x] = toARGB(raw, i);
+        }
+
+        return pixels;
+    }
+
+    private int toARGB(byte[] raw, int i) throws IOException {
+        switch (colourType) {
+        case GREY: {
+            int v = raw[i] & 0xff;
+            return 0xff000000 | v << 16 | v << 8 | v;
+        }
+        case GREY_ALPHA: {
+            int v = raw[i] & 0xff;
+            return (raw[i + 1] & 0xff) << 24 | v << 16 | v << 8 | v;
+        }
+        case TRUECOLOUR:
+            return 0xff000000 | (raw[i] & 0xff) << 16 | (raw[i + 1] & 0xff) << 8
+                    | (raw[i + 2] & 0xff);
+        case TRUECOLOUR_ALPHA:
+            return (raw[i + 3] & 0xff) << 24 | (raw[i] & 0xff) << 16
+                    | (raw[i + 1] & 0xff) << 8 | (raw[i + 2] & 0xff);
+        default: {
+            int index = raw[i] & 0xff;
+            if (palette == null || index >= palette.length)
+                throw new IOException("PNG palette index out of range");
+            return palette[index];
+        }
+        }
+    }
+
+    private int getBytesPerPixel() {
+        switch (colourType) {
+        case TRUECOLOUR:
+            return 3;
+        case GREY_ALPHA:
+            return 2;
+        case TRUECOLOUR_ALPHA:
+            return 4;
+        default:
+            return 1;
+        }
+    }
+
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a), pb = Math.abs(p - b), pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc)
+            return a;
+        if (pb <= pc)
+            return b;
+        return c;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) << 24 | (bytes[offset + 1] & 0xff) << 16
+                | (bytes[offset + 2] & 0xff) << 8 | (bytes[offset + 3] & 0xff);
+    }
+}
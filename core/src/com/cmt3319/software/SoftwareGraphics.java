@@ -0,0 +1,308 @@
+package com.cmt3319.software;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.cmt3319.interfaces.FileIO;
+import com.cmt3319.interfaces.Graphics;
+import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.interfaces.PixmapRegion;
+
+/**
+ * A Graphics that draws into a {@link SoftwarePixmap} with plain Java loops, so it
+ * runs on any JVM without android.graphics. Every primitive is clipped to the target.
+ *
+ * Pixmaps are drawn the way the game's sprites need: pixels with alpha of at least
+ * half are copied and the rest skipped, with no blending. A pixmap with no
+ * transparent pixels, or any RGB565 pixmap, is drawn to a target of the same format
+ * by copying whole rows. Drawing between formats converts each pixel, dropping the
+ * low bits when drawing into ARGB4444 or RGB565.
+ */
+public class SoftwareGraphics implements Graphics {
+    FileIO fileIO;
+    SoftwarePixmap target;
+
+    public SoftwareGraphics(FileIO fileIO, SoftwarePixmap target) {
+        this.fileIO = fileIO;
+        this.target = target;
+    }
+
+    @Override
+    public Pixmap newPixmap(String fileName, PixmapFormat format) {
+        InputStream in = null;
+        try {
+            in = fileIO.readAsset(fileName);
+            PngDecoder decoder = new PngDecoder();
+            int[] pixels = decoder.decode(in);
+            return new SoftwarePixmap(decoder.getWidth(), decoder.getHeight(),
+                    format, pixels);
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't load bitmap from asset '"
+                    + fileName + "'");
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    @Override
+    public Pixmap newPixmap(int width, int height, PixmapFormat format) {
+        return new SoftwarePixmap(width, height, format);
+    }
+
+    @Override
+    public Graphics newGraphics(Pixmap pixmap) {
+        return new SoftwareGraphics(fileIO, (SoftwarePixmap) pixmap);
+    }
+
+    @Override
+    public void clear(int color) {
+        fill(0, 0, target.width, target.height, color | 0xff000000);
+    }
+
+    @Override
+    public void drawPixel(int x, int y, int color) {
+        if (x < 0 || y < 0 || x >= target.width || y >= target.height)
+            return;
+        fill(x, y, 1, 1, color);
+    }
+
+    @Override
+    public void drawLine(int x, int y, int x2, int y2, int color) {
+        int dx = Math.abs(x2 - x), dy = -Math.abs(y2 - y);
+        int stepX = x < x2 ? 1 : -1, stepY = y < y2 ? 1 : -1;
+        int error = dx + dy;
+
+        while (true) {
+            drawPixel(x, y, color);
+            if (x == x2 && y == y2)
+                break;
+            int error2 = error * 2;
+            if (error2 >= dy) {
+                error += dy;
+                x += stepX;
+            }
+            if (error2 <= dx) {
+                error += dx;
+                y += stepY;
+            }
+        }
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height, int color) {
+        // Same area as AndroidGraphics, which passes the last pixel as the
+        // exclusive right and bottom edge to Canvas.
+        width--;
+        height--;
+
+        if (x < 0) {
+            width += x;
+            x = 0;
+        }
+        if (y < 0) {
+            height += y;
+            y = 0;
+        }
+        width = Math.min(width, target.width - x);
+        height = Math.min(height, target.height - y);
+
+        if (width > 0 && height > 0)
+            fill(x, y, width, height, color);
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, int x, int y, int srcX, int srcY,
+            int srcWidth, int srcHeight) {
+        if (pixmap instanceof PixmapRegion) {
+            // Clip to the region so nothing else on the sheet is drawn.
+            PixmapRegion region = (PixmapRegion) pixmap;
+            srcWidth = Math.min(srcWidth, region.getWidth() - srcX);
+            srcHeight = Math.min(srcHeight, region.getHeight() - srcY);
+            srcX += region.getX();
+            srcY += region.getY();
+            pixmap = region.getSheet();
+        }
+
+        SoftwarePixmap source = (SoftwarePixmap) pixmap;
+
+        // Clip to the source, then to the target.
+        if (srcX < 0) {
+            x -= srcX;
+            srcWidth += srcX;
+            srcX = 0;
+        }
+        if (srcY < 0) {
+            y -= srcY;
+            srcHeight += srcY;
+            srcY = 0;
+        }
+        if (x < 0) {
+            srcX -= x;
+            srcWidth += x;
+            x = 0;
+        }
+        if (y < 0) {
+            srcY -= y;
+            srcHeight += y;
+            y = 0;
+        }
+        srcWidth = Math.min(srcWidth, Math.min(source.width - srcX, target.width - x));
+        srcHeight = Math.min(srcHeight, Math.min(source.height - srcY, target.height - y));
+
+        if (srcWidth > 0 && srcHeight > 0)
+            blit(source, srcX, srcY, x, y, srcWidth, srcHeight);
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, int x, int y) {
+        drawPixmap(pixmap, x, y, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+    }
+
+    @Override
+    public void drawPixmap(Pixmap pixmap, float x, float y) {
+        // Pixels are not filtered, so snap to the nearest pixel as Canvas does.
+        drawPixmap(pixmap, (int) Math.floor(x + 0.5f), (int) Math.floor(y + 0.5f));
+    }
+
+    @Override
+    public int getWidth() {
+        return target.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return target.height;
+    }
+
+    private void fill(int x, int y, int width, int height, int color) {
+        if (color >>> 31 == 0)
+            return;
+
+        if (target.format == PixmapFormat.ARGB8888) {
+            int[] dst = target.ints;
+            for (int row = 0; row < height; row++) {
+                int d = (y + row) * target.width + x;
+                for (int i = d; i < d + width; i++)
+                    dst[i] = color;
+            }
+        } else {
+            short pixel = target.format == PixmapFormat.ARGB4444 ? SoftwarePixmap
+                    .to4444(color) : SoftwarePixmap.to565(color);
+            short[] dst = target.shorts;
+            for (int row = 0; row < height; row++) {
+                int d = (y + row) * target.width + x;
+                for (int i = d; i < d + width; i++)
+                    dst[i] = pixel;
+            }
+        }
+    }
+
+    /**
+     * Copies an already clipped rectangle of the source to the target, with one loop
+     * for each pair of formats so the inner loops have no branches on the format.
+     */
+    private void blit(SoftwarePixmap source, int srcX, int srcY, int x, int y,
+            int width, int height) {
+        PixmapFormat from = source.format, to = target.format;
+
+        for (int row = 0; row < height; row++) {
+            int s = (srcY + row) * source.width + srcX;
+            int d = (y + row) * target.width + x;
+
+            if (from == to && source.opaque) {
+                if (from == PixmapFormat.ARGB8888)
+                    System.arraycopy(source.ints, s, target.ints, d, width);
+                else
+                    System.arraycopy(source.shorts, s, target.shorts, d, width);
+            } else if (to == PixmapFormat.ARGB8888) {
+                if (from == PixmapFormat.ARGB8888)
+                    copy8888(source.ints, s, target.ints, d, width);
+                else if (from == PixmapFormat.ARGB4444)
+                    copy4444To8888(source.shorts, s, target.ints, d, width);
+                else
+                    copy565To8888(source.shorts, s, target.ints, d, width);
+            } else if (to == PixmapFormat.ARGB4444) {
+                if (from == PixmapFormat.ARGB8888)
+                    copy8888To4444(source.ints, s, target.shorts, d, width);
+                else if (from == PixmapFormat.ARGB4444)
+                    copy4444(source.shorts, s, target.shorts, d, width);
+                else
+                    copy565To4444(source.shorts, s, target.shorts, d, width);
+            } else {
+                if (from == PixmapFormat.ARGB8888)
+                    copy8888To565(source.ints, s, target.shorts, d, width);
+                else
+                    copy4444To565(source.shorts, s, target.shorts, d, width);
+            }
+        }
+    }
+
+    private static void copy8888(int[] src, int s, int[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            int pixel = src[s + i];
+            if (pixel >>> 31 != 0)
+                dst[d + i] = pixel;
+        }
+    }
+
+    private static void copy4444(short[] src, int s, short[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            short pixel = src[s + i];
+            if ((pixel & 0x8000) != 0)
+                dst[d + i] = pixel;
+        }
+    }
+
+    private static void copy4444To8888(short[] src, int s, int[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            short pixel = src[s + i];
+            if ((pixel & 0x8000) != 0)
+                dst[d + i] = SoftwarePixmap.from4444(pixel);
+        }
+    }
+
+    private static void copy565To8888(short[] src, int s, int[] dst, int d, int width) {
+        for (int i = 0; i < width; i++)
+            dst[d + i] = SoftwarePixmap.from565(src[s + i]);
+    }
+
+    private static void copy8888To4444(int[] src, int s, short[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            int pixel = src[s + i];
+            if (pixel >>> 31 != 0)
+                dst[d + i] = SoftwarePixmap.to4444(pixel);
+        }
+    }
+
+    private static void copy565To4444(short[] src, int s, short[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            int pixel = src[s + i];
+            dst[d + i] = (short) (0xf000 | (pixel >> 4 & 0x0f00)
+                    | (pixel >> 3 & 0x00f0) | (pixel >> 1 & 0x000f));
+        }
+    }
+
+    private static void copy8888To565(int[] src, int s, short[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            int pixel = src[s + i];
+            if (pixel >>> 31 != 0)
+                dst[d + i] = SoftwarePixmap.to565(pixel);
+        }
+    }
+
+    private static void copy4444To565(short[] src, int s, short[] dst, int d, int width) {
+        for (int i = 0; i < width; i++) {
+            int pixel = src[s + i];
+            if ((pixel & 0x8000) != 0) {
+                int r = pixel >> 8 & 0xf, g = pixel >> 4 & 0xf, b = pixel & 0xf;
+                dst[d + i] = (short) ((r << 1 | r >> 3) << 11 | (g << 2 | g >> 2) << 5
+                        | (b << 1 | b >> 3));
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.cmt3319.software;
+
+import java.util.Arrays;
+
+import com.cmt3319.interfaces.Graphics.PixmapFormat;
+import com.cmt3319.interfaces.Pixmap;
+
+/**
+ * A Pixmap held in a plain array: ARGB8888 pixels in an int[], ARGB4444 and
+ * RGB565 pixels in a short[], row by row from the top left. Used both for images
+ * and as the target of a {@link SoftwareGraphics}.
+ */
+public class SoftwarePixmap implements Pixmap {
+    final int width, height;
+    final PixmapFormat format;
+    int[] ints;
+    short[] shorts;
+    final boolean opaque;
+
+    public SoftwarePixmap(int width, int height, PixmapFormat format) {
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.opaque = format == PixmapFormat.RGB565;
+
+        if (format == PixmapFormat.ARGB8888)
+            ints = new int[width * height];
+        else
+            shorts = new short[width * height];
+    }
+
+    /**
+     * Creates a pixmap from ARGB8888 pixels, converting them to the format. If every
+     * pixel is opaque the pixmap is drawn by copying whole rows rather than testing
+     * the alpha of each pixel.
+     */
+    public SoftwarePixmap(int width, int height, PixmapFormat format, int[] argb) {
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.opaque = format == PixmapFormat.RGB565 || isOpaque(argb);
+
+        if (format == PixmapFormat.ARGB8888) {
+            ints = argb.clone();
+        } else if (format == PixmapFormat.ARGB4444) {
+            shorts = new short[width * height];
+            for (int i = 0; i < shorts.length; i++)
+                shorts[i] = to4444(argb[i]);
+        } else {
+            shorts = new short[width * height];
+            for (int i = 0; i < shorts.length; i++)
+                shorts[i] = to565(argb[i]);
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public PixmapFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return returns the pixel at x, y as ARGB8888, whatever the format.
+     */
+    public int getPixel(int x, int y) {
+        int i = y * width + x;
+
+        if (format == PixmapFormat.ARGB8888)
+            return ints[i];
+        else if (format == PixmapFormat.ARGB4444)
+            return from4444(shorts[i]);
+        else
+            return from565(shorts[i]);
+    }
+
+    /**
+     * @return returns the pixels of an ARGB8888 pixmap, or null for other formats.
+     */
+    public int[] getInts() {
+        return ints;
+    }
+
+    /**
+     * @return returns the pixels of an ARGB4444 or RGB565 pixmap, or null for ARGB8888.
+     */
+    public short[] getShorts() {
+        return shorts;
+    }
+
+    @Override
+    public void erase() {
+        if (ints != null)
+            Arrays.fill(ints, 0);
+        else
+            Arrays.fill(shorts, (short) 0);
+    }
+
+    @Override
+    public void erase(int x, int y, int width, int height) {
+        int left = Math.max(0, x), top = Math.max(0, y);
+        int right = Math.min(this.width, x + width), bottom = Math.min(this.height, y + height);
+
+        for (int row = top; row < bottom && left < right; row++) {
+            int start = row * this.width;
+            if (ints != null)
+                Arrays.fill(ints, start + left, start + right, 0);
+            else
+                Arrays.fill(shorts, start + left, start + right, (short) 0);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        ints = null;
+        shorts = null;
+    }
+
+    private static boolean isOpaque(int[] argb) {
+        for (int i = 0; i < argb.length; i++)
+            if (argb[i] >>> 24 != 0xff)
+                return false;
+        return true;
+    }
+
+    static short to4444(int argb) {
+        return (short) ((argb >>> 16 & 0xf000) | (argb >> 12 & 0x0f00)
+                | (argb >> 8 & 0x00f0) | (argb >> 4 & 0x000f));
+    }
+
+    static short to565(int argb) {
+        return (short) ((argb >> 8 & 0xf800) | (argb >> 5 & 0x07e0) | (argb >> 3 & 0x001f));
+    }
+
+    static int from4444(short pixel) {
+        int a = pixel >> 12 & 0xf, r = pixel >> 8 & 0xf, g = pixel >> 4 & 0xf, b = pixel & 0xf;
+        return (a * 0x11) << 24 | (r * 0x11) << 16 | (g * 0x11) << 8 | (b * 0x11);
+    }
+
+    static int from565(short pixel) {
+        int r = pixel >> 11 & 0x1f, g = pixel >> 5 & 0x3f, b = pixel & 0x1f;
+        return 0xff000000 | (r << 3 | r >> 2) << 16 | (g << 2 | g >> 4) << 8 | (b << 3 | b >> 2);
+    }
+}
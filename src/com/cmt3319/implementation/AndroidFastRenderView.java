@@ -6,18 +6,42 @@ import android.graphics.Rect;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
 
+import com.cmt3319.interfaces.Screen;
+import com.cmt3319.profiling.FrameProfiler;
+
+/**
+ * Runs the game loop on its own thread. The screen is updated in fixed ticks of
+ * 1 / ticksPerSecond seconds: the time since the last frame is added to an accumulator
+ * and as many ticks are run as fit in it. What is left over is passed to
+ * {@link Screen#present(float, float)} as a fraction of a tick so the screen can draw
+ * between the last two ticks. At most MAX_TICKS_PER_FRAME ticks are run per frame, so
+ * after a stall the game slows down instead of taking one long step.
+ *
+ * Each frame is timed by a {@link FrameProfiler}: the ticks, present, locking the
+ * canvas, drawing the framebuffer into it and posting it to the display.
+ */
 public class AndroidFastRenderView extends SurfaceView implements Runnable {
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    static final int MAX_TICKS_PER_FRAME = 5;
+
     AndroidGame game;
     Bitmap framebuffer;
     Thread renderThread = null;
     SurfaceHolder holder;
     volatile boolean running = false;
+    final float tickTime;
+    final FrameProfiler profiler = new FrameProfiler();
     
     public AndroidFastRenderView(AndroidGame game, Bitmap framebuffer) {
+        this(game, framebuffer, DEFAULT_TICKS_PER_SECOND);
+    }
+
+    public AndroidFastRenderView(AndroidGame game, Bitmap framebuffer, int ticksPerSecond) {
         super(game);
         this.game = game;
         this.framebuffer = framebuffer;
         this.holder = getHolder();
+        this.tickTime = 1.0f / ticksPerSecond;
     }
 
     public void resume() { 
@@ -29,23 +53,41 @@ public class AndroidFastRenderView extends SurfaceView implements Runnable {
     public void run() {
         Rect dstRect = new Rect();
         long startTime = System.nanoTime();
+        float accumulator = 0;
         while(running) {  
             if(!holder.getSurface().isValid())
                 continue;           
             
+            profiler.beginFrame();
             float deltaTime = (System.nanoTime()-startTime) / 1000000000.0f;
             startTime = System.nanoTime();
 
-            game.getCurrentScreen().update(deltaTime);
-            game.getCurrentScreen().present(deltaTime);
+            accumulator += Math.min(deltaTime, tickTime * MAX_TICKS_PER_FRAME);
+            while(accumulator >= tickTime) {
+                game.getCurrentScreen().update(tickTime);
+                accumulator -= tickTime;
+                profiler.tick();
+            }
+            profiler.mark(FrameProfiler.UPDATE);
+
+            game.getCurrentScreen().present(deltaTime, accumulator / tickTime);
+            profiler.mark(FrameProfiler.PRESENT);
             
             Canvas canvas = holder.lockCanvas();
+            profiler.mark(FrameProfiler.LOCK);
             canvas.getClipBounds(dstRect);
             canvas.drawBitmap(framebuffer, null, dstRect, null);                           
+            profiler.mark(FrameProfiler.BLIT);
             holder.unlockCanvasAndPost(canvas);
+            profiler.mark(FrameProfiler.POST);
+            profiler.endFrame();
         }
     }
 
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
     public void pause() {                        
         running = false;                        
         while(true) {
@@ -57,4 +99,4 @@ public class AndroidFastRenderView extends SurfaceView implements Runnable {
             }
         }
     }        
-}
\ No newline at end of file
+}
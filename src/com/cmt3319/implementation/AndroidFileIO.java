@@ -8,10 +8,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.content.res.AssetManager;
 import android.os.Environment;
-import android.preference.PreferenceManager;
 
 import com.cmt3319.interfaces.FileIO;
 
@@ -41,8 +39,4 @@ public class AndroidFileIO implements FileIO {
     public OutputStream writeFile(String fileName) throws IOException {
         return new FileOutputStream(externalStoragePath + fileName);
     }
-    
-    public SharedPreferences getPreferences() {
-    	return PreferenceManager.getDefaultSharedPreferences(context);
-    }
 }
@@ -1,7 +1,12 @@
 package com.cmt3319.implementation;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
 import android.app.Activity;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
 import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.Bitmap.Config;
@@ -17,8 +22,11 @@ import com.cmt3319.interfaces.Game;
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Input;
 import com.cmt3319.interfaces.Screen;
+import com.cmt3319.profiling.FrameProfiler;
 
 public abstract class AndroidGame extends Activity implements Game {
+    public static final String FRAME_PROFILE_FILE = "frame-profile.txt";
+
     AndroidFastRenderView renderView;
     Graphics graphics;
     Audio audio;
@@ -46,7 +54,7 @@ public abstract class AndroidGame extends Activity implements Game {
         float scaleY = (float) frameBufferHeight
                 / getWindowManager().getDefaultDisplay().getHeight();
 
-        renderView = new AndroidFastRenderView(this, frameBuffer);
+        renderView = new AndroidFastRenderView(this, frameBuffer, getTicksPerSecond());
         graphics = new AndroidGraphics(getAssets(), frameBuffer);
         fileIO = new AndroidFileIO(this);
         audio = new AndroidAudio(this);
@@ -73,10 +81,44 @@ public abstract class AndroidGame extends Activity implements Game {
         renderView.pause();
         screen.pause();
 
+        if ((getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0)
+            dumpFrameProfile(FRAME_PROFILE_FILE);
+
         if (isFinishing())
             screen.dispose();
     }
 
+    /**
+     * The profile of the frames run by the game loop, see {@link FrameProfiler}.
+     */
+    public FrameProfiler getFrameProfiler() {
+        return renderView.getProfiler();
+    }
+
+    /**
+     * Writes the frame profile to a file on external storage. Debug builds do this
+     * each time the game is paused, so a tester can send it in after a stutter.
+     *
+     * @return returns false if the file couldn't be written.
+     */
+    public boolean dumpFrameProfile(String fileName) {
+        Writer out = null;
+        try {
+            out = new OutputStreamWriter(fileIO.writeFile(fileName));
+            renderView.getProfiler().dump(out);
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
     @Override
     public Input getInput() {
         return input;
@@ -112,4 +154,12 @@ public abstract class AndroidGame extends Activity implements Game {
     public Screen getCurrentScreen() {
         return screen;
     }
-}
\ No newline at end of file
+
+    /**
+     * The number of fixed ticks per second the game loop updates the screen at.
+     * Override to run the simulation at a different rate.
+     */
+    protected int getTicksPerSecond() {
+        return AndroidFastRenderView.DEFAULT_TICKS_PER_SECOND;
+    }
+}
\ No newline at end of file
@@ -12,9 +12,11 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
 import android.graphics.Rect;
+import android.graphics.RectF;
 
 import com.cmt3319.interfaces.Graphics;
 import com.cmt3319.interfaces.Pixmap;
+import com.cmt3319.interfaces.PixmapRegion;
 
 public class AndroidGraphics implements Graphics {
     AssetManager assets;
@@ -23,6 +25,7 @@ public class AndroidGraphics implements Graphics {
     Paint paint;
     Rect srcRect = new Rect();
     Rect dstRect = new Rect();
+    RectF dstRectF = new RectF();
 
     public AndroidGraphics(AssetManager assets, Bitmap frameBuffer) {
         this.assets = assets;
@@ -33,16 +36,8 @@ public class AndroidGraphics implements Graphics {
 
     @Override
     public Pixmap newPixmap(String fileName, PixmapFormat format) {
-        Config config = null;
-        if (format == PixmapFormat.RGB565)
-            config = Config.RGB_565;
-        else if (format == PixmapFormat.ARGB4444)
-            config = Config.ARGB_4444;
-        else
-            config = Config.ARGB_8888;
-
         Options options = new Options();
-        options.inPreferredConfig = config;
+        options.inPreferredConfig = toConfig(format);
 
         InputStream in = null;
         Bitmap bitmap = null;
@@ -74,6 +69,26 @@ public class AndroidGraphics implements Graphics {
         return new AndroidPixmap(bitmap, format);
     }
 
+    @Override
+    public Pixmap newPixmap(int width, int height, PixmapFormat format) {
+        Bitmap bitmap = Bitmap.createBitmap(width, height, toConfig(format));
+        return new AndroidPixmap(bitmap, format);
+    }
+
+    @Override
+    public Graphics newGraphics(Pixmap pixmap) {
+        return new AndroidGraphics(assets, ((AndroidPixmap) pixmap).bitmap);
+    }
+
+    private static Config toConfig(PixmapFormat format) {
+        if (format == PixmapFormat.RGB565)
+            return Config.RGB_565;
+        else if (format == PixmapFormat.ARGB4444)
+            return Config.ARGB_4444;
+        else
+            return Config.ARGB_8888;
+    }
+
     @Override
     public void clear(int color) {
         canvas.drawRGB((color & 0xff0000) >> 16, (color & 0xff00) >> 8,
@@ -102,6 +117,16 @@ public class AndroidGraphics implements Graphics {
     @Override
     public void drawPixmap(Pixmap pixmap, int x, int y, int srcX, int srcY,
             int srcWidth, int srcHeight) {
+        if (pixmap instanceof PixmapRegion) {
+            // Clip to the region so nothing else on the sheet is drawn.
+            PixmapRegion region = (PixmapRegion) pixmap;
+            srcWidth = Math.min(srcWidth, region.getWidth() - srcX);
+            srcHeight = Math.min(srcHeight, region.getHeight() - srcY);
+            srcX += region.getX();
+            srcY += region.getY();
+            pixmap = region.getSheet();
+        }
+
         srcRect.left = srcX;
         srcRect.top = srcY;
         srcRect.right = srcX + srcWidth - 1;
@@ -118,14 +143,37 @@ public class AndroidGraphics implements Graphics {
     
     @Override
     public void drawPixmap(Pixmap pixmap, int x, int y) {
+        if (pixmap instanceof PixmapRegion) {
+            drawRegion((PixmapRegion) pixmap, x, y);
+            return;
+        }
         canvas.drawBitmap(((AndroidPixmap)pixmap).bitmap, x, y, null);
     }
     
     @Override
     public void drawPixmap(Pixmap pixmap, float x, float y) {
+        if (pixmap instanceof PixmapRegion) {
+            drawRegion((PixmapRegion) pixmap, x, y);
+            return;
+        }
         canvas.drawBitmap(((AndroidPixmap)pixmap).bitmap, x, y, null);
     }
 
+    private void drawRegion(PixmapRegion region, float x, float y) {
+        srcRect.left = region.getX();
+        srcRect.top = region.getY();
+        srcRect.right = region.getX() + region.getWidth();
+        srcRect.bottom = region.getY() + region.getHeight();
+
+        dstRectF.left = x;
+        dstRectF.top = y;
+        dstRectF.right = x + region.getWidth();
+        dstRectF.bottom = y + region.getHeight();
+
+        canvas.drawBitmap(((AndroidPixmap) region.getSheet()).bitmap, srcRect,
+                dstRectF, null);
+    }
+
     @Override
     public int getWidth() {
         return frameBuffer.getWidth();
@@ -135,9 +183,4 @@ public class AndroidGraphics implements Graphics {
     public int getHeight() {
         return frameBuffer.getHeight();
     }
-    
-    @Override
-    public Canvas getCanvas() {
-    	return canvas;
-    }
 }
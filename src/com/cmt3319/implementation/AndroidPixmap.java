@@ -1,6 +1,9 @@
 package com.cmt3319.implementation;
 
 import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
 
 import com.cmt3319.interfaces.Graphics.PixmapFormat;
 import com.cmt3319.interfaces.Pixmap;
@@ -8,6 +11,7 @@ import com.cmt3319.interfaces.Pixmap;
 public class AndroidPixmap implements Pixmap {
     Bitmap bitmap;
     PixmapFormat format;
+    Canvas canvas;
     
     public AndroidPixmap(Bitmap bitmap, PixmapFormat format) {
         this.bitmap = bitmap;
@@ -29,6 +33,22 @@ public class AndroidPixmap implements Pixmap {
         return format;
     }
 
+    @Override
+    public void erase() {
+        bitmap.eraseColor(Color.TRANSPARENT);
+    }
+
+    @Override
+    public void erase(int x, int y, int width, int height) {
+        if (canvas == null)
+            canvas = new Canvas(bitmap);
+
+        canvas.save();
+        canvas.clipRect(x, y, x + width, y + height);
+        canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+        canvas.restore();
+    }
+
     @Override
     public void dispose() {
         bitmap.recycle();
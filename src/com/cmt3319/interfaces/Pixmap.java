@@ -1,13 +0,0 @@
-package com.cmt3319.interfaces;
-
-import com.cmt3319.interfaces.Graphics.PixmapFormat;
-
-public interface Pixmap {
-    public int getWidth();
-
-    public int getHeight();
-
-    public PixmapFormat getFormat();
-
-    public void dispose();
-}
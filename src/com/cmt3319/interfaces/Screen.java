@@ -1,19 +0,0 @@
-package com.cmt3319.interfaces;
-
-public abstract class Screen {
-    protected final Game game;
-
-    public Screen(Game game) {
-        this.game = game;
-    }
-
-    public abstract void update(float deltaTime);
-
-    public abstract void present(float deltaTime);
-
-    public abstract void pause();
-
-    public abstract void resume();
-
-    public abstract void dispose();
-}
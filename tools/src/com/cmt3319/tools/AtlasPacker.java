@@ -0,0 +1,236 @@
+package com.cmt3319.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Command line tool that packs the sprites in the art folder into a few atlas sheets, and writes the
+ * region table loaded by {@link com.cmt3319.game.TextureAtlas}. Runs on a plain JVM:
+ *
+ * <pre>
+ * javac -d bin/tools tools/src/com/cmt3319/tools/AtlasPacker.java
+ * java -cp bin/tools com.cmt3319.tools.AtlasPacker art/atlas.txt assets
+ * </pre>
+ *
+ * The source list names each sheet, the format it is loaded in and its width, followed by the images packed
+ * into it, one per line and relative to the list. Lines starting with ; are comments:
+ *
+ * <pre>
+ * sheet sprites.png ARGB4444 256
+ * wall.png
+ * hazard.png
+ * </pre>
+ *
+ * Images are packed into shelves, tallest first: each image goes to the right of the last one on the shelf,
+ * or starts a new shelf below if it does not fit. Images are PADDING pixels apart so a sprite never picks
+ * up the edge of its neighbour. The sheet is only as tall as its last shelf, as Canvas does not need power of
+ * two sizes.
+ *
+ * The table lists each sheet followed by its regions, in the same form as the source list:
+ *
+ * <pre>
+ * sheet sprites.png ARGB4444
+ * wall.png x y width height
+ * </pre>
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class AtlasPacker {
+
+	private static final int PADDING = 1;
+
+	private static final String TABLE = "atlas.txt";
+
+	private static class Sprite {
+		String name;
+		BufferedImage image;
+		int x, y;
+	}
+
+	private static class Sheet {
+		String name, format;
+		int width, height;
+		ArrayList<Sprite> sprites = new ArrayList<Sprite>();
+	}
+
+	public static void main(String[] args) {
+		if(args.length != 2) {
+			System.err.println("Usage: AtlasPacker <source list> <output folder>");
+			System.exit(2);
+		}
+
+		try {
+			File list = new File(args[0]);
+			File output = new File(args[1]);
+
+			ArrayList<Sheet> sheets = readList(list);
+
+			for(int i = 0; i < sheets.size(); i++) {
+				pack(sheets.get(i));
+				writeSheet(sheets.get(i), output);
+			}
+
+			writeTable(sheets, new File(output, TABLE));
+
+			for(int i = 0; i < sheets.size(); i++) {
+				Sheet sheet = sheets.get(i);
+				System.out.println("Wrote " + sheet.name + " " + sheet.width + "x" + sheet.height + " with "
+						+ sheet.sprites.size() + " sprites");
+			}
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	private static ArrayList<Sheet> readList(File list) throws IOException {
+		ArrayList<Sheet> sheets = new ArrayList<Sheet>();
+		BufferedReader in = null;
+		int lineNumber = 0;
+
+		try {
+			in = new BufferedReader(new FileReader(list));
+			String line;
+
+			while((line = in.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+
+				if(line.length() == 0 || line.startsWith(";")) {
+					continue;
+				}
+
+				String[] parts = line.split("\\s+");
+
+				if(parts[0].equals("sheet")) {
+					if(parts.length != 4) {
+						throw new IOException(list + ":" + lineNumber + ": expected sheet <name> <format> <width>");
+					}
+
+					Sheet sheet = new Sheet();
+					sheet.name = parts[1];
+					sheet.format = parts[2];
+					sheet.width = Integer.parseInt(parts[3]);
+					sheets.add(sheet);
+				} else if(sheets.isEmpty()) {
+					throw new IOException(list + ":" + lineNumber + ": image before the first sheet");
+				} else {
+					Sprite sprite = new Sprite();
+					sprite.name = parts[0];
+					sprite.image = ImageIO.read(new File(list.getParentFile(), sprite.name));
+
+					if(sprite.image == null) {
+						throw new IOException(list + ":" + lineNumber + ": couldn't read image '" + sprite.name + "'");
+					}
+
+					sheets.get(sheets.size() - 1).sprites.add(sprite);
+				}
+			}
+		} finally {
+			if(in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+
+		return sheets;
+	}
+
+	 /**
+	  * Places the sprites of a sheet in shelves, tallest first, and sets the height of the sheet.
+	  * Sprites of the same height are ordered by name so the same list always gives the same sheet.
+	  */
+	private static void pack(Sheet sheet) throws IOException {
+		ArrayList<Sprite> sorted = new ArrayList<Sprite>(sheet.sprites);
+
+		Collections.sort(sorted, new Comparator<Sprite>() {
+			@Override
+			public int compare(Sprite a, Sprite b) {
+				if(a.image.getHeight() != b.image.getHeight()) {
+					return b.image.getHeight() - a.image.getHeight();
+				}
+
+				return a.name.compareTo(b.name);
+			}
+		});
+
+		int x = 0, y = 0, shelfHeight = 0;
+
+		for(int i = 0; i < sorted.size(); i++) {
+			Sprite sprite = sorted.get(i);
+
+			if(sprite.image.getWidth() > sheet.width) {
+				throw new IOException("'" + sprite.name + "' is wider than sheet " + sheet.name);
+			}
+
+			if(x + sprite.image.getWidth() > sheet.width) {
+				x = 0;
+				y += shelfHeight + PADDING;
+				shelfHeight = 0;
+			}
+
+			sprite.x = x;
+			sprite.y = y;
+
+			x += sprite.image.getWidth() + PADDING;
+			shelfHeight = Math.max(shelfHeight, sprite.image.getHeight());
+		}
+
+		sheet.height = y + shelfHeight;
+	}
+
+	private static void writeSheet(Sheet sheet, File output) throws IOException {
+		BufferedImage image = new BufferedImage(sheet.width, sheet.height, BufferedImage.TYPE_INT_ARGB);
+
+		for(int i = 0; i < sheet.sprites.size(); i++) {
+			Sprite sprite = sheet.sprites.get(i);
+			int width = sprite.image.getWidth(), height = sprite.image.getHeight();
+
+			// Copied rather than drawn so the pixels, alpha included, are exactly as they were.
+			image.setRGB(sprite.x, sprite.y, width, height, sprite.image.getRGB(0, 0, width, height, null, 0, width),
+					0, width);
+		}
+
+		if(!ImageIO.write(image, "png", new File(output, sheet.name))) {
+			throw new IOException("Couldn't write sheet " + sheet.name);
+		}
+	}
+
+	private static void writeTable(ArrayList<Sheet> sheets, File file) throws IOException {
+		PrintWriter out = new PrintWriter(new FileWriter(file));
+
+		out.println("; Written by AtlasPacker, edit the source list in the art folder instead.");
+
+		for(int i = 0; i < sheets.size(); i++) {
+			Sheet sheet = sheets.get(i);
+			out.println("sheet " + sheet.name + " " + sheet.format);
+
+			for(int j = 0; j < sheet.sprites.size(); j++) {
+				Sprite sprite = sheet.sprites.get(j);
+				out.println(sprite.name + " " + sprite.x + " " + sprite.y + " " + sprite.image.getWidth() + " "
+						+ sprite.image.getHeight());
+			}
+		}
+
+		out.close();
+
+		if(out.checkError()) {
+			throw new IOException("Couldn't write region table " + file);
+		}
+	}
+
+}
@@ -0,0 +1,396 @@
+package com.cmt3319.tools;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.cmt3319.game.ChunkData;
+import com.cmt3319.game.LevelPack;
+
+/**
+ * Command line tool that checks the tilesets in the levels folder and compiles them into the
+ * {@link LevelPack} loaded by the game. Runs on a plain JVM:
+ *
+ * <pre>
+ * javac -d bin/tools -sourcepath core/src tools/src/com/cmt3319/tools/LevelPackCompiler.java
+ * java -cp bin/tools com.cmt3319.tools.LevelPackCompiler assets/levels.pack levels/first.txt levels/easy.txt
+ * 	levels/medium.txt levels/hard.txt
+ * </pre>
+ *
+ * Each source file becomes one table of the pack, in the order given, so the files must be in the order of
+ * {@link LevelPack#FIRST}, {@link LevelPack#EASY}, {@link LevelPack#MEDIUM} and {@link LevelPack#HARD}.
+ *
+ * A source file holds tilesets drawn as they appear on screen, ROWS lines of COLUMNS characters each, separated by
+ * blank lines. Lines starting with ; are comments. The characters are:
+ *
+ * <pre>
+ * # wall, ^ hazard, o collectible, G reverse gravity, E enemy, . empty
+ * </pre>
+ *
+ * Enemies are placed by {@link com.cmt3319.game.Chunk} in steps of the enemy image size rather than the tile size,
+ * so an E in column c, line r spawns at x = c * ENEMYSIZE, y = r * ENEMYSIZE.
+ *
+ * Every tileset is checked before anything is written and the pack is only written if no check fails:
+ *
+ * <pre>
+ * floor continuity - no run of more than MAXGAP columns without a wall the player can land on or a reverse
+ * 	gravity tile to carry them across, and no more than MAXGAP / 2 at either edge so any two tilesets can
+ * 	follow each other;
+ * reachable collectibles - each collectible is no more than MAXJUMPROWS above a surface the player can reach
+ * 	from the floor by jumping, unless the tileset has a reverse gravity tile;
+ * enemy spawns - each enemy lands on a wall when it falls, not on a hazard or out of the world;
+ * </pre>
+ *
+ * The jump limits come from the physics in {@link com.cmt3319.game.MovingObject}: a full jump rises about five
+ * tiles and covers about twelve columns at the speed the world scrolls.
+ *
+ * @author Robert Wells
+ * @version 1.0
+ *
+ */
+public class LevelPackCompiler {
+
+	// Must match Map.MAPWIDTH, Map.MAPHEIGHT and the sizes of wall.png and enemy.png.
+	private static final int COLUMNS = 40, ROWS = 15, TILESIZE = 21, ENEMYSIZE = 23;
+
+	private static final int MAXGAP = 12, MAXJUMPROWS = 5;
+
+	private static final String CELLS = "#^o.GE";
+
+	private static final int WALL = 0, HAZARD = 1, COLLECTIBLE = 2, EMPTY = 3, GRAVITY = 4, ENEMY = 5;
+
+	private final ArrayList<String> errors = new ArrayList<String>();
+
+	public static void main(String[] args) {
+		if(args.length < LevelPack.HARD + 2) {
+			System.err.println("Usage: LevelPackCompiler <output.pack> <tileset source>...");
+			System.err.println("At least " + (LevelPack.HARD + 1) + " sources are needed, one for each table");
+			System.exit(2);
+		}
+
+		LevelPackCompiler compiler = new LevelPackCompiler();
+		ChunkData[][] tables = new ChunkData[args.length - 1][];
+
+		try {
+			for(int i = 1; i < args.length; i++) {
+				tables[i - 1] = compiler.compileFile(args[i]);
+
+				if(tables[i - 1].length == 0) {
+					compiler.errors.add(args[i] + ": no tilesets, every table needs at least one");
+				}
+			}
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+
+		if(!compiler.errors.isEmpty()) {
+			for(int i = 0; i < compiler.errors.size(); i++) {
+				System.err.println(compiler.errors.get(i));
+			}
+
+			System.err.println(compiler.errors.size() + " error(s), pack not written");
+			System.exit(1);
+		}
+
+		OutputStream out = null;
+
+		try {
+			out = new FileOutputStream(args[0]);
+			new LevelPack(tables).write(out);
+		} catch (IOException e) {
+			System.err.println("Couldn't write level pack '" + args[0] + "': " + e.getMessage());
+			System.exit(1);
+		} finally {
+			if(out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+
+		int count = 0;
+
+		for(int i = 0; i < tables.length; i++) {
+			count += tables[i].length;
+		}
+
+		System.out.println("Wrote " + count + " tilesets in " + tables.length + " tables to " + args[0]);
+	}
+
+	 /**
+	  * Reads a source file, checks every tileset in it and compiles them. Problems with a tileset are
+	  * added to {@link LevelPackCompiler#errors} rather than stopping, so every problem is reported at once.
+	  */
+	ChunkData[] compileFile(String fileName) throws IOException {
+		ArrayList<ChunkData> table = new ArrayList<ChunkData>();
+		ArrayList<String> lines = new ArrayList<String>();
+		BufferedReader in = null;
+		int lineNumber = 0, firstLine = 1;
+
+		try {
+			in = new BufferedReader(new FileReader(fileName));
+			String line;
+
+			while((line = in.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+
+				if(line.startsWith(";")) {
+					continue;
+				}
+
+				if(line.length() == 0) {
+					if(!lines.isEmpty()) {
+						table.add(compileTileset(fileName, firstLine, lines));
+						lines.clear();
+					}
+
+					continue;
+				}
+
+				if(lines.isEmpty()) {
+					firstLine = lineNumber;
+				}
+
+				lines.add(line);
+			}
+
+			if(!lines.isEmpty()) {
+				table.add(compileTileset(fileName, firstLine, lines));
+			}
+		} catch (IOException e) {
+			throw new IOException("Couldn't read tileset source '" + fileName + "': " + e.getMessage());
+		} finally {
+			if(in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+
+		return table.toArray(new ChunkData[table.size()]);
+	}
+
+	private ChunkData compileTileset(String fileName, int firstLine, ArrayList<String> lines) {
+		String where = fileName + ":" + firstLine + ": ";
+		int[][] grid = new int[ROWS][COLUMNS];
+
+		if(lines.size() != ROWS) {
+			errors.add(where + "tileset has " + lines.size() + " lines, expected " + ROWS);
+		}
+
+		for(int row = 0; row < ROWS; row++) {
+			Arrays.fill(grid[row], EMPTY);
+
+			if(row >= lines.size()) {
+				continue;
+			}
+
+			String line = lines.get(row);
+
+			if(line.length() != COLUMNS) {
+				errors.add(where + "line " + (row + 1) + " has " + line.length() + " columns, expected " + COLUMNS);
+			}
+
+			for(int column = 0; column < Math.min(COLUMNS, line.length()); column++) {
+				int cell = CELLS.indexOf(line.charAt(column));
+
+				if(cell < 0) {
+					errors.add(where + "unknown cell '" + line.charAt(column) + "' at line " + (row + 1)
+							+ ", column " + (column + 1));
+				} else {
+					grid[row][column] = cell;
+				}
+			}
+		}
+
+		checkFloor(where, grid);
+		checkCollectibles(where, grid);
+		checkEnemies(where, grid);
+
+		return ChunkData.compile(toTileArray(grid), COLUMNS);
+	}
+
+	 /**
+	  * Converts a grid drawn as it appears on screen to the tile map format compiled by
+	  * {@link ChunkData#compile(int[], int)}, where the bottom row comes first.
+	  */
+	private int[] toTileArray(int[][] grid) {
+		int[] tileArray = new int[ROWS * COLUMNS];
+
+		for(int row = 0; row < ROWS; row++) {
+			for(int column = 0; column < COLUMNS; column++) {
+				tileArray[(ROWS - 1 - row) * COLUMNS + column] = grid[row][column];
+			}
+		}
+
+		return tileArray;
+	}
+
+	private void checkFloor(String where, int[][] grid) {
+		int gap = 0, start = -1;
+
+		for(int column = 0; column < COLUMNS; column++) {
+			if(hasFloor(grid, column)) {
+				if(start < 0 && gap > MAXGAP / 2) {
+					errors.add(where + "no floor for the first " + gap + " columns, at most " + (MAXGAP / 2) + " allowed");
+				} else if(gap > MAXGAP) {
+					errors.add(where + "no floor for " + gap + " columns before column " + (column + 1)
+							+ ", at most " + MAXGAP + " can be jumped");
+				}
+
+				start = column;
+				gap = 0;
+			} else {
+				gap++;
+			}
+		}
+
+		if(start < 0) {
+			errors.add(where + "tileset has no floor");
+		} else if(gap > MAXGAP / 2) {
+			errors.add(where + "no floor for the last " + gap + " columns, at most " + (MAXGAP / 2) + " allowed");
+		}
+	}
+
+	private boolean hasFloor(int[][] grid, int column) {
+		for(int row = 0; row < ROWS; row++) {
+			if(grid[row][column] == WALL || grid[row][column] == GRAVITY) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	 /**
+	  * Finds the surfaces the player can stand on, i.e. walls with no wall above, that can be reached from the bottom row.
+	  * A surface can be reached from another if it is no more than MAXGAP columns away and MAXJUMPROWS rows higher.
+	  * Each collectible then needs a reachable surface no more than MAXGAP columns away that it is at most
+	  * MAXJUMPROWS rows above, as the player can fall to anything lower.
+	  */
+	private void checkCollectibles(String where, int[][] grid) {
+		for(int row = 0; row < ROWS; row++) {
+			for(int column = 0; column < COLUMNS; column++) {
+				if(grid[row][column] == GRAVITY) {
+					// Reversing gravity carries the player through every row, so height no longer limits what is reachable.
+					return;
+				}
+			}
+		}
+
+		boolean[][] reachable = new boolean[ROWS][COLUMNS];
+		boolean changed = true;
+
+		for(int column = 0; column < COLUMNS; column++) {
+			reachable[ROWS - 1][column] = isSurface(grid, ROWS - 1, column);
+		}
+
+		while(changed) {
+			changed = false;
+
+			for(int row = 0; row < ROWS; row++) {
+				for(int column = 0; column < COLUMNS; column++) {
+					if(!reachable[row][column] && isSurface(grid, row, column)
+							&& nearSurface(reachable, row, column, MAXJUMPROWS)) {
+						reachable[row][column] = true;
+						changed = true;
+					}
+				}
+			}
+		}
+
+		for(int row = 0; row < ROWS; row++) {
+			for(int column = 0; column < COLUMNS; column++) {
+				if(grid[row][column] == COLLECTIBLE && !nearSurface(reachable, row, column, MAXJUMPROWS + 1)) {
+					errors.add(where + "collectible at line " + (row + 1) + ", column " + (column + 1)
+							+ " is too high to reach");
+				}
+			}
+		}
+	}
+
+	private boolean isSurface(int[][] grid, int row, int column) {
+		return grid[row][column] == WALL && (row == 0 || grid[row - 1][column] != WALL);
+	}
+
+	 /**
+	  * @return returns true if there is a reachable surface no more than MAXGAP columns away and no more
+	  * than height rows below the cell.
+	  */
+	private boolean nearSurface(boolean[][] reachable, int row, int column, int height) {
+		for(int surfaceRow = Math.max(0, row - ROWS); surfaceRow < ROWS; surfaceRow++) {
+			if(surfaceRow - row > height) {
+				break;
+			}
+
+			for(int surfaceColumn = Math.max(0, column - MAXGAP); surfaceColumn <= Math.min(COLUMNS - 1, column + MAXGAP);
+					surfaceColumn++) {
+				if(reachable[surfaceRow][surfaceColumn] && (surfaceRow != row || surfaceColumn != column)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private void checkEnemies(String where, int[][] grid) {
+		for(int row = 0; row < ROWS; row++) {
+			for(int column = 0; column < COLUMNS; column++) {
+				if(grid[row][column] != ENEMY) {
+					continue;
+				}
+
+				String enemy = where + "enemy at line " + (row + 1) + ", column " + (column + 1);
+
+				int left = column * ENEMYSIZE / TILESIZE;
+				int right = ((column + 1) * ENEMYSIZE - 1) / TILESIZE;
+				int bottom = ((row + 1) * ENEMYSIZE - 1) / TILESIZE;
+
+				if(right >= COLUMNS || bottom >= ROWS) {
+					errors.add(enemy + " spawns outside the tileset");
+					continue;
+				}
+
+				if(!landsOnWall(grid, left, right, bottom)) {
+					errors.add(enemy + " does not land on a wall");
+				}
+			}
+		}
+	}
+
+	 /**
+	  * Drops an enemy covering the tile columns left to right, starting from the tile row its bottom edge is in, and
+	  * returns true if the first wall or hazard it hits is a wall. An enemy that spawns overlapping a wall is pushed
+	  * out of it onto the wall. Collectibles, reverse gravity tiles and other enemies do not stop it.
+	  */
+	private boolean landsOnWall(int[][] grid, int left, int right, int bottom) {
+		for(int row = bottom; row < ROWS; row++) {
+			boolean wall = false, hazard = false;
+
+			for(int column = left; column <= right; column++) {
+				wall |= grid[row][column] == WALL;
+				hazard |= grid[row][column] == HAZARD;
+			}
+
+			if(wall) {
+				return true;
+			}
+
+			if(hazard) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+}